@@ -0,0 +1,28 @@
+package automation.com.benchmarks;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+// The shipped log4j2.xml logs to the console; point the Console appender at a null stream so the
+// forked benchmark JVM does not flood the JMH output. File appenders are unaffected.
+final class ConsoleSilencer {
+
+    private static boolean silenced = false;
+
+    private ConsoleSilencer() {
+    }
+
+    static synchronized void silenceLogConsole() {
+        if (silenced) {
+            return;
+        }
+        PrintStream original = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            org.apache.logging.log4j.LogManager.getLogger(ConsoleSilencer.class);
+        } finally {
+            System.setOut(original);
+        }
+        silenced = true;
+    }
+}
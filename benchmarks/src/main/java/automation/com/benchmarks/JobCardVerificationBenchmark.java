@@ -0,0 +1,62 @@
+package automation.com.benchmarks;
+
+import automation.com.data.ExpectedJobDetails;
+import automation.com.data.TestData;
+import automation.com.pages.JobCard;
+import automation.com.pages.QACareersPage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// QACareersPage.verifyJobCards, the per-card checks of verifyAllJobsContainExpectedDetails, without the browser
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class JobCardVerificationBenchmark {
+
+    private static final String[] LOCATIONS = {"Istanbul, Turkiye", "Istanbul, Turkey", "Istanbul", "London, United Kingdom"};
+
+    @Param({"10", "100"})
+    public int jobCount;
+
+    private List<JobCard> jobCards;
+    private ExpectedJobDetails expectedDetails;
+
+    @Setup
+    public void setUp() {
+        ConsoleSilencer.silenceLogConsole();
+        expectedDetails = TestData.qaJobs().expectedJobDetails();
+
+        jobCards = new ArrayList<>(jobCount);
+        for (int i = 0; i < jobCount; i++) {
+            jobCards.add(new JobCard("Senior Software Quality Assurance Engineer " + i, "Quality Assurance",
+                LOCATIONS[i % LOCATIONS.length], "https://jobs.lever.co/useinsider/" + i));
+        }
+    }
+
+    @Benchmark
+    public boolean verifyAllJobs() {
+        return QACareersPage.verifyJobCards(jobCards, expectedDetails);
+    }
+
+    @Benchmark
+    public long matchAllJobs() {
+        return jobCards.stream().filter(card -> card.matches(expectedDetails.positionContains(),
+            expectedDetails.departmentContains(), expectedDetails.locationContains())).count();
+    }
+}
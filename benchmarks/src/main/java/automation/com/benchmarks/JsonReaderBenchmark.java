@@ -0,0 +1,58 @@
+package automation.com.benchmarks;
+
+import automation.com.data.ExpectedJobDetails;
+import automation.com.data.JobFilter;
+import automation.com.utils.JsonReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class JsonReaderBenchmark {
+
+    @Setup
+    public void setUp() {
+        ConsoleSilencer.silenceLogConsole();
+        JsonReader.getMainHeaderTabs();
+    }
+
+    @Benchmark
+    public List<String> mainHeaderTabs() {
+        return JsonReader.getMainHeaderTabs();
+    }
+
+    @Benchmark
+    public List<String> subHeaderTabs() {
+        return JsonReader.getSubHeaderTabs("Why Insider");
+    }
+
+    @Benchmark
+    public List<String> careersPageSections() {
+        return JsonReader.getCareersPageSections();
+    }
+
+    @Benchmark
+    public JobFilter qaJobsFilterCriteria() {
+        return JsonReader.getQAJobsFilterCriteria();
+    }
+
+    @Benchmark
+    public ExpectedJobDetails expectedJobDetails() {
+        return JsonReader.getExpectedJobDetails();
+    }
+}
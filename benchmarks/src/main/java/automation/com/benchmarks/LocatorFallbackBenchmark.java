@@ -0,0 +1,61 @@
+package automation.com.benchmarks;
+
+import automation.com.pages.BasePage;
+import automation.com.pages.LocatorMatch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// The stub driver is not a JavascriptExecutor, so this measures the findElements fallback loop
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlocator.cacheFile=target/benchmark-locator-cache.properties")
+public class LocatorFallbackBenchmark {
+
+    @Param({"1", "3", "5"})
+    public int matchingCandidate;
+
+    private BasePage page;
+    private By[] candidates;
+
+    @Setup
+    public void setUp() {
+        ConsoleSilencer.silenceLogConsole();
+        candidates = new By[] {
+            By.xpath("//section[@id='career-position-list']//div[contains(@class,'position-list-item')]"),
+            By.xpath("//div[contains(@class,'position-list-item')]"),
+            By.cssSelector(".position-list-item"),
+            By.xpath("//div[contains(@class,'jobs-list')]//div[contains(@class,'item')]"),
+            By.cssSelector("[data-team='Quality Assurance']")
+        };
+        List<WebElement> jobs = List.of(StubDriver.element("Software QA Tester"), StubDriver.element("QA Engineer"));
+        page = new BasePage(StubDriver.create(Map.of(candidates[matchingCandidate - 1], jobs), new byte[0]));
+    }
+
+    @Benchmark
+    public LocatorMatch findFirstMatch() {
+        return page.findFirstMatch(1, true, candidates);
+    }
+
+    @Benchmark
+    public LocatorMatch findFirstMatchWithLocatorCache() {
+        return page.findFirstMatch("jobList", 1, true, candidates);
+    }
+}
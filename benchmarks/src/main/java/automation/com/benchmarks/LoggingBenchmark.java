@@ -0,0 +1,66 @@
+package automation.com.benchmarks;
+
+import automation.com.utils.ActionLogger;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+
+import java.util.concurrent.TimeUnit;
+
+// Uses the shipped log4j2.xml; the enabled benchmarks really write to logs/automation.log
+// (bounded by its rollover policy), so iterations are kept short.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class LoggingBenchmark {
+
+    private Logger logger;
+    private By locator;
+    private long startNanos;
+
+    @Setup
+    public void setUp() {
+        ConsoleSilencer.silenceLogConsole();
+        logger = LogManager.getLogger("automation.com.pages.BasePage");
+        locator = By.xpath("//section[@id='career-position-list']//div[contains(@class,'position-list-item')]");
+        startNanos = System.nanoTime();
+    }
+
+    @Benchmark
+    public void infoParameterized() {
+        logger.info("Element is visible: {}", locator);
+    }
+
+    @Benchmark
+    public void infoConcatenated() {
+        logger.info("Element is visible: " + locator);
+    }
+
+    @Benchmark
+    public void debugDisabledParameterized() {
+        logger.debug("Element not found within {} seconds: {}", 5, locator);
+    }
+
+    @Benchmark
+    public void debugDisabledConcatenated() {
+        logger.debug("Element not found within " + 5 + " seconds: " + locator);
+    }
+
+    @Benchmark
+    public void actionEvent() {
+        ActionLogger.log("click", locator, startNanos, ActionLogger.Outcome.SUCCESS);
+    }
+}
@@ -0,0 +1,65 @@
+package automation.com.benchmarks;
+
+import automation.com.utils.ScreenshotUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgsAppend = {
+    "-Dscreenshot.path=target/benchmark-screenshots/",
+    "-Dscreenshot.dedup=off",
+    "-Dscreenshot.maxPerTest=2147483647",
+    "-Dscreenshot.minIntervalMillis=0"
+})
+public class ScreenshotWriteBenchmark {
+
+    @Param({"200"})
+    public int screenshotKilobytes;
+
+    private WebDriver driver;
+
+    @Setup
+    public void setUp() {
+        ConsoleSilencer.silenceLogConsole();
+        byte[] screenshot = new byte[screenshotKilobytes * 1024];
+        new Random(42).nextBytes(screenshot);
+        driver = StubDriver.create(Collections.emptyMap(), screenshot);
+    }
+
+    @TearDown
+    public void tearDown() {
+        ScreenshotUtil.flush();
+    }
+
+    // Time the test thread spends before it can continue (capture + enqueue, back-pressure included)
+    @Benchmark
+    public String queueScreenshot() {
+        return ScreenshotUtil.takeScreenshot(driver, "benchmark");
+    }
+
+    // End-to-end cost until the file is on disk
+    @Benchmark
+    public boolean writeScreenshotAndFlush() {
+        ScreenshotUtil.takeScreenshot(driver, "benchmark");
+        return ScreenshotUtil.flush();
+    }
+}
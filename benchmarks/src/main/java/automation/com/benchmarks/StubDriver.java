@@ -0,0 +1,79 @@
+package automation.com.benchmarks;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+// In-memory WebDriver: findElements answers from a fixed locator -> elements map, screenshots return fixed bytes.
+final class StubDriver {
+
+    private StubDriver() {
+    }
+
+    static WebDriver create(Map<By, List<WebElement>> elementsByLocator, byte[] screenshot) {
+        return (WebDriver) Proxy.newProxyInstance(StubDriver.class.getClassLoader(),
+            new Class<?>[] {WebDriver.class, TakesScreenshot.class},
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "findElements":
+                        return elementsByLocator.getOrDefault((By) args[0], Collections.emptyList());
+                    case "findElement":
+                        List<WebElement> elements = elementsByLocator.get((By) args[0]);
+                        if (elements == null || elements.isEmpty()) {
+                            throw new NoSuchElementException("Stub has no element for " + args[0]);
+                        }
+                        return elements.get(0);
+                    case "getScreenshotAs":
+                        return ((OutputType<?>) args[0]).convertFromPngBytes(screenshot);
+                    default:
+                        return defaultValue(proxy, method, args);
+                }
+            });
+    }
+
+    static WebElement element(String text) {
+        return (WebElement) Proxy.newProxyInstance(StubDriver.class.getClassLoader(),
+            new Class<?>[] {WebElement.class},
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "isDisplayed":
+                    case "isEnabled":
+                        return true;
+                    case "getText":
+                        return text;
+                    default:
+                        return defaultValue(proxy, method, args);
+                }
+            });
+    }
+
+    private static Object defaultValue(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "toString":
+                return "Stub" + method.getDeclaringClass().getSimpleName();
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "equals":
+                return proxy == args[0];
+            default:
+                break;
+        }
+        Class<?> returnType = method.getReturnType();
+        if (returnType == boolean.class) {
+            return false;
+        }
+        if (returnType.isPrimitive() && returnType != void.class) {
+            return 0;
+        }
+        return null;
+    }
+}
@@ -2,22 +2,64 @@ package automation.com.config;
 
 public class Config {
     
-    public static final String BASE_URL = "https://useinsider.com/";
-    public static final String CAREERS_URL = "https://useinsider.com/careers/";
-    public static final String QA_CAREERS_URL = "https://useinsider.com/careers/quality-assurance/";
+    public static final boolean FIXTURES_ENABLED = Boolean.getBoolean("fixtures");
+    public static final int FIXTURES_PORT = Integer.getInteger("fixtures.port", 8089);
+    public static final String FIXTURES_PATH = System.getProperty("fixtures.path", "src/test/resources/fixtures/");
+    
+    public static final String BASE_URL = FIXTURES_ENABLED ? "http://localhost:" + FIXTURES_PORT + "/" : "https://useinsider.com/";
+    public static final String BASE_HOST = java.net.URI.create(BASE_URL).getHost();
+    public static final String CAREERS_URL = BASE_URL + "careers/";
+    public static final String QA_CAREERS_URL = BASE_URL + "careers/quality-assurance/";
+    public static final String OPEN_POSITIONS_URL = BASE_URL + "careers/open-positions/";
+    
+    public static final String TRAFFIC_MODE = System.getProperty("traffic.mode", "off");
+    public static final String TRAFFIC_ARCHIVE_PATH = System.getProperty("traffic.archive", "target/traffic-archive/");
+    
+    public static final boolean COOKIE_CONSENT_PRESEED = Boolean.parseBoolean(System.getProperty("cookies.preseed", "true"));
+    public static final boolean NETWORK_BLOCKING_ENABLED = Boolean.parseBoolean(System.getProperty("network.blocking", "false"));
     
     public static final String DEFAULT_BROWSER = "chrome";
+    public static final String BROWSER_PROFILE = System.getProperty("browser.profile", "default");
     
-    public static final int IMPLICIT_WAIT = 10;
+    public static final int DRIVER_POOL_MAX_SIZE = Integer.getInteger("driver.pool.size", 4);
+    public static final int DRIVER_POOL_ACQUIRE_TIMEOUT = Integer.getInteger("driver.pool.acquireTimeout", 300);
+    public static final int DRIVER_POOL_WARM_UP = Integer.getInteger("driver.pool.warmup", 0);
+    
+    public static final boolean DRIVER_OFFLINE = Boolean.getBoolean("driver.offline");
+    public static final String DRIVER_CACHE_FILE = System.getProperty("driver.cacheFile", "target/webdriver-cache.properties");
+    
+    public static final int IMPLICIT_WAIT = 0;
     public static final int EXPLICIT_WAIT = 20;
     public static final int PAGE_LOAD_TIMEOUT = 30;
     
     public static final int SHORT_WAIT = 5;
     public static final int MEDIUM_WAIT = 10;
+    public static final int DOM_QUIET_MILLIS = Integer.getInteger("readiness.domQuietMillis", 300);
+    public static final int NETWORK_IDLE_MILLIS = Integer.getInteger("readiness.networkIdleMillis", 500);
+    public static final int NETWORK_IDLE_MAX_IN_FLIGHT = Integer.getInteger("readiness.networkIdleMaxInFlight", 2);
+    public static final int POLLING_INTERVAL_MILLIS = Integer.getInteger("wait.pollingMillis", 200);
+    public static final boolean COMMAND_STATS_ENABLED = Boolean.parseBoolean(System.getProperty("stats.commands", "true"));
+    public static final String WAIT_MODE = System.getProperty("wait.mode", "poll");
+    public static final int SCRIPT_TIMEOUT = Integer.getInteger("wait.scriptTimeout", 60);
+    
+    public static final boolean LOCATOR_CACHE_ENABLED = Boolean.parseBoolean(System.getProperty("locator.cache", "true"));
+    public static final String LOCATOR_CACHE_FILE = System.getProperty("locator.cacheFile", "target/locator-cache.properties");
     
     
-    public static final String SCREENSHOT_PATH = "src/test/resources/screenshots/";
+    public static final String SCREENSHOT_PATH = System.getProperty("screenshot.path", "src/test/resources/screenshots/");
+    public static final int SCREENSHOT_QUEUE_CAPACITY = Integer.getInteger("screenshot.queueCapacity", 16);
+    public static final int SCREENSHOT_FLUSH_TIMEOUT = 30;
+    public static final String SCREENSHOT_DEDUP_MODE = System.getProperty("screenshot.dedup", "skip");
+    public static final int SCREENSHOT_MAX_PER_TEST = Integer.getInteger("screenshot.maxPerTest", 3);
+    public static final int SCREENSHOT_MIN_INTERVAL_MILLIS = Integer.getInteger("screenshot.minIntervalMillis", 2000);
     
-    public static final String TEST_DATA_PATH = "src/test/resources/testdata/testdata.json";
+    public static final boolean TRACE_ENABLED = Boolean.parseBoolean(System.getProperty("trace", "true"));
+    public static final String TRACE_PATH = System.getProperty("trace.path", "target/traces/");
+    public static final int TRACE_MAX_SPANS = Integer.getInteger("trace.maxSpans", 500000);
+    public static final String TEST_DATA_PATH = System.getProperty("testdata.path", "src/test/resources/testdata/testdata.json");
+    public static final String FILTER_CASES_PATH = System.getProperty("testdata.filterCases", "src/test/resources/testdata/qa-filter-cases.json");
+    public static final String FILTER_MATRIX_MODE = System.getProperty("matrix.mode", "each-choice");
+    public static final int DATA_SHARD_INDEX = Integer.getInteger("data.shard.index", 0);
+    public static final int DATA_SHARD_COUNT = Integer.getInteger("data.shard.count", 1);
 }
 
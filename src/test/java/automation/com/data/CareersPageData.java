@@ -0,0 +1,16 @@
+package automation.com.data;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record CareersPageData(@JsonProperty("expected_sections") List<String> expectedSections,
+                              List<String> locations,
+                              List<String> teams) {
+
+    public CareersPageData {
+        expectedSections = List.copyOf(expectedSections);
+        locations = List.copyOf(locations);
+        teams = List.copyOf(teams);
+    }
+}
@@ -0,0 +1,16 @@
+package automation.com.data;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Objects;
+
+public record ExpectedJobDetails(@JsonProperty("position_contains") String positionContains,
+                                 @JsonProperty("department_contains") String departmentContains,
+                                 @JsonProperty("location_contains") String locationContains) {
+
+    public ExpectedJobDetails {
+        Objects.requireNonNull(positionContains, "position_contains");
+        Objects.requireNonNull(departmentContains, "department_contains");
+        Objects.requireNonNull(locationContains, "location_contains");
+    }
+}
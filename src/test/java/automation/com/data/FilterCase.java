@@ -0,0 +1,23 @@
+package automation.com.data;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Objects;
+
+// One location/department combination for the QA jobs filter and the minimum number of jobs it should list
+public record FilterCase(String location, String department, @JsonProperty("min_jobs") int minJobs) {
+
+    public FilterCase {
+        Objects.requireNonNull(location, "location");
+        Objects.requireNonNull(department, "department");
+    }
+
+    public JobFilter filter() {
+        return new JobFilter(location, department);
+    }
+
+    @Override
+    public String toString() {
+        return location + " / " + department + " (min " + minJobs + ")";
+    }
+}
@@ -0,0 +1,79 @@
+package automation.com.data;
+
+import automation.com.config.Config;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+// Location x department combinations for the QA jobs filter, generated lazily from the option lists.
+// "full" is the whole cross product; "each-choice" uses every location and every department at least
+// once in max(locations, departments) cases. With only two factors all-pairs coverage is the full cross
+// product, so each-choice is the reduction that actually saves runs. "file" streams FilterCase records
+// from Config.FILTER_CASES_PATH. Generated cases are split across workers like StreamingDataSource.
+// Only the file data set carries expected job counts; generated cases rely on the test comparing the
+// filtered list against the unfiltered one.
+public class FilterMatrix {
+
+    private static final Logger logger = LogManager.getLogger(FilterMatrix.class);
+
+    public static Iterator<Object[]> cases(String mode) {
+        switch (mode.toLowerCase()) {
+            case "file":
+                return StreamingDataSource.open(Config.FILTER_CASES_PATH, "cases", FilterCase.class);
+            case "full":
+                return generate(mode, true);
+            case "each-choice":
+                return generate(mode, false);
+            default:
+                throw new IllegalArgumentException("Unknown filter matrix mode: " + mode + " (expected full, each-choice or file)");
+        }
+    }
+
+    private static Iterator<Object[]> generate(String mode, boolean crossProduct) {
+        int shardIndex = Config.DATA_SHARD_INDEX;
+        int shardCount = Config.DATA_SHARD_COUNT;
+        if (shardCount < 1 || shardIndex < 0 || shardIndex >= shardCount) {
+            throw new IllegalArgumentException("Invalid data shard " + shardIndex + " of " + shardCount);
+        }
+        QAJobsData qaJobs = TestData.qaJobs();
+        List<String> locations = qaJobs.locationOptions();
+        List<String> departments = qaJobs.departmentOptions();
+        long total = crossProduct
+            ? (long) locations.size() * departments.size()
+            : Math.max(locations.size(), departments.size());
+        logger.info("Filter matrix mode " + mode + ": " + total + " of "
+            + ((long) locations.size() * departments.size()) + " combination(s)"
+            + (shardCount > 1 ? ", shard " + shardIndex + " of " + shardCount : ""));
+
+        return new Iterator<>() {
+            private long index = shardIndex;
+
+            @Override
+            public synchronized boolean hasNext() {
+                return index < total;
+            }
+
+            @Override
+            public synchronized Object[] next() {
+                if (index >= total) {
+                    throw new NoSuchElementException("Filter matrix exhausted");
+                }
+                long current = index;
+                index += shardCount;
+                String location;
+                String department;
+                if (crossProduct) {
+                    location = locations.get((int) (current / departments.size()));
+                    department = departments.get((int) (current % departments.size()));
+                } else {
+                    location = locations.get((int) (current % locations.size()));
+                    department = departments.get((int) (current % departments.size()));
+                }
+                return new Object[] {new FilterCase(location, department, 0)};
+            }
+        };
+    }
+}
@@ -0,0 +1,18 @@
+package automation.com.data;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public record HeaderTabs(List<String> main, Map<String, List<String>> subHeaders) {
+
+    public HeaderTabs {
+        main = List.copyOf(main);
+        subHeaders = subHeaders.entrySet().stream()
+            .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, entry -> List.copyOf(entry.getValue())));
+    }
+
+    public List<String> subHeadersOf(String mainTab) {
+        return subHeaders.getOrDefault(mainTab, List.of());
+    }
+}
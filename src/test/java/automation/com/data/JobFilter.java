@@ -0,0 +1,16 @@
+package automation.com.data;
+
+import java.util.Objects;
+
+public record JobFilter(String location, String department) {
+
+    public JobFilter {
+        Objects.requireNonNull(location, "location");
+        Objects.requireNonNull(department, "department");
+    }
+
+    @Override
+    public String toString() {
+        return location + " / " + department;
+    }
+}
@@ -0,0 +1,16 @@
+package automation.com.data;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record QAJobsData(JobFilter filters,
+                         @JsonProperty("expected_job_details") ExpectedJobDetails expectedJobDetails,
+                         @JsonProperty("location_options") List<String> locationOptions,
+                         @JsonProperty("department_options") List<String> departmentOptions) {
+
+    public QAJobsData {
+        locationOptions = List.copyOf(locationOptions);
+        departmentOptions = List.copyOf(departmentOptions);
+    }
+}
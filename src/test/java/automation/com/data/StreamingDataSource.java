@@ -0,0 +1,147 @@
+package automation.com.data;
+
+import automation.com.config.Config;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+// Reads the records of one JSON array with a streaming parser instead of loading the whole file into a
+// tree. The array is either the document root or the value of a top-level field. With data.shard.count > 1
+// each worker only yields every n-th record. The parser only bounds memory for sequential providers:
+// TestNG drains the whole iterator of a @DataProvider(parallel = true) up front and keeps one task per
+// record, so large parallel sets should be split with data.shard.* across processes instead.
+// Owners close the source after the class runs, since TestNG does not when an iteration is abandoned.
+public class StreamingDataSource<T> implements Iterator<Object[]>, AutoCloseable {
+
+    private static final Logger logger = LogManager.getLogger(StreamingDataSource.class);
+    private static final ObjectMapper mapper = new ObjectMapper()
+        .enable(DeserializationFeature.FAIL_ON_NULL_CREATOR_PROPERTIES);
+
+    private final String source;
+    private final Class<T> type;
+    private final int shardIndex;
+    private final int shardCount;
+    private final JsonParser parser;
+    private long position = 0;
+    private long yielded = 0;
+    private T next;
+    private boolean closed = false;
+
+    private StreamingDataSource(File file, String arrayField, Class<T> type, int shardIndex, int shardCount) {
+        if (shardCount < 1 || shardIndex < 0 || shardIndex >= shardCount) {
+            throw new IllegalArgumentException("Invalid data shard " + shardIndex + " of " + shardCount);
+        }
+        this.source = file.getPath();
+        this.type = type;
+        this.shardIndex = shardIndex;
+        this.shardCount = shardCount;
+        this.parser = openParser(file);
+        try {
+            seekArray(arrayField);
+        } catch (IOException e) {
+            close();
+            throw new RuntimeException("Failed to open data file " + source, e);
+        }
+    }
+
+    public static <T> StreamingDataSource<T> open(String path, String arrayField, Class<T> type) {
+        return open(path, arrayField, type, Config.DATA_SHARD_INDEX, Config.DATA_SHARD_COUNT);
+    }
+
+    public static <T> StreamingDataSource<T> open(String path, String arrayField, Class<T> type, int shardIndex, int shardCount) {
+        return new StreamingDataSource<>(new File(path), arrayField, type, shardIndex, shardCount);
+    }
+
+    @Override
+    public synchronized boolean hasNext() {
+        if (next == null && !closed) {
+            next = readNext();
+        }
+        return next != null;
+    }
+
+    @Override
+    public synchronized Object[] next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more records in " + source);
+        }
+        T record = next;
+        next = null;
+        yielded++;
+        return new Object[] {record};
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            parser.close();
+        } catch (IOException e) {
+            logger.warn("Error closing data file " + source + ": " + e.getMessage());
+        }
+        logger.info("Streamed " + yielded + " of " + position + " " + type.getSimpleName() + " record(s) from " + source
+            + (shardCount > 1 ? " (shard " + shardIndex + " of " + shardCount + ")" : ""));
+    }
+
+    private T readNext() {
+        try {
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                long index = position++;
+                if (index % shardCount != shardIndex) {
+                    parser.skipChildren();
+                    continue;
+                }
+                return parser.readValueAs(type);
+            }
+            close();
+            return null;
+        } catch (IOException e) {
+            close();
+            throw new RuntimeException("Failed to read record " + position + " from " + source, e);
+        }
+    }
+
+    private static JsonParser openParser(File file) {
+        try {
+            return mapper.getFactory().createParser(file);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to open data file " + file.getPath(), e);
+        }
+    }
+
+    private void seekArray(String arrayField) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (arrayField == null) {
+            if (token != JsonToken.START_ARRAY) {
+                throw new IOException("Expected a JSON array at the root of " + source);
+            }
+            return;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            throw new IOException("Expected a JSON object at the root of " + source);
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (arrayField.equals(field)) {
+                if (value != JsonToken.START_ARRAY) {
+                    throw new IOException("Field '" + arrayField + "' in " + source + " is not an array");
+                }
+                return;
+            }
+            parser.skipChildren();
+        }
+        throw new IOException("Field '" + arrayField + "' not found in " + source);
+    }
+}
@@ -0,0 +1,64 @@
+package automation.com.data;
+
+import automation.com.config.Config;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Test data bound once into immutable records: each section is bound the first time it is asked for,
+// then shared by all threads
+public class TestData {
+
+    private static final Logger logger = LogManager.getLogger(TestData.class);
+    private static final ObjectMapper mapper = new ObjectMapper()
+        .enable(DeserializationFeature.FAIL_ON_MISSING_CREATOR_PROPERTIES)
+        .enable(DeserializationFeature.FAIL_ON_NULL_CREATOR_PROPERTIES);
+    private static final Map<String, Object> sections = new ConcurrentHashMap<>();
+
+    public static HeaderTabs headerTabs() {
+        return section("header_tabs", HeaderTabs.class);
+    }
+
+    public static CareersPageData careersPage() {
+        return section("careers_page", CareersPageData.class);
+    }
+
+    public static QAJobsData qaJobs() {
+        return section("qa_jobs", QAJobsData.class);
+    }
+
+    private static <T> T section(String name, Class<T> type) {
+        return type.cast(sections.computeIfAbsent(name, key -> bind(key, type)));
+    }
+
+    // Streams the file to the named top-level field and binds only that value, so no tree of the whole
+    // document is built or kept; every section is read at most once
+    private static Object bind(String name, Class<?> type) {
+        try (JsonParser parser = mapper.getFactory().createParser(new File(Config.TEST_DATA_PATH))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new RuntimeException("Expected a JSON object at the root of " + Config.TEST_DATA_PATH);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if (name.equals(field)) {
+                    Object section = parser.readValueAs(type);
+                    logger.info("Bound test data section '" + name + "' to " + type.getSimpleName());
+                    return section;
+                }
+                parser.skipChildren();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to bind test data section '" + name + "' from " + Config.TEST_DATA_PATH, e);
+        }
+        throw new RuntimeException("Test data section '" + name + "' not found in " + Config.TEST_DATA_PATH);
+    }
+}
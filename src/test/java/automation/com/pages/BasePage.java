@@ -1,64 +1,279 @@
 package automation.com.pages;
 
 import automation.com.config.Config;
+import automation.com.utils.ActionLogger;
+import automation.com.utils.ActionLogger.Outcome;
 import automation.com.utils.BrowserManager;
+import automation.com.utils.CookieConsent;
+import automation.com.utils.LocatorCache;
 import automation.com.utils.ScreenshotUtil;
+import automation.com.utils.TraceRecorder;
+import automation.com.utils.WaitStats;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.util.Unbox;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 import org.openqa.selenium.support.ui.FluentWait;
 import org.openqa.selenium.support.ui.Wait;
 import java.util.function.Function;
 import org.testng.Assert;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 public class BasePage {
     
     protected static final Logger logger = LogManager.getLogger(BasePage.class);
+    private static final String FIRST_MATCH_SCRIPT =
+        "var candidates = arguments[0], requireVisible = arguments[1];" +
+        "function isVisible(e) {" +
+        "  var style = window.getComputedStyle(e);" +
+        "  return style.visibility !== 'hidden' && style.display !== 'none' && e.getClientRects().length > 0;" +
+        "}" +
+        "for (var i = 0; i < candidates.length; i++) {" +
+        "  var found = [];" +
+        "  if (candidates[i][0] === 'xpath') {" +
+        "    var snapshot = document.evaluate(candidates[i][1], document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);" +
+        "    for (var j = 0; j < snapshot.snapshotLength; j++) { found.push(snapshot.snapshotItem(j)); }" +
+        "  } else {" +
+        "    found = Array.prototype.slice.call(document.querySelectorAll(candidates[i][1]));" +
+        "  }" +
+        "  if (requireVisible) { found = found.filter(isVisible); }" +
+        "  if (found.length > 0) { return [i, found]; }" +
+        "}" +
+        "return null;";
+    private static final String PAGE_LOAD_WAIT_KEY = "document.readyState == complete";
+    private static final String ELEMENT_CLICKABLE_WAIT_KEY = "WebElement clickable";
+    
     protected WebDriver driver;
-    protected WebDriverWait wait;
     
     public BasePage() {
         this.driver = BrowserManager.getDriver();
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(Config.EXPLICIT_WAIT));
+    }
+    
+    public BasePage(WebDriver driver) {
+        this.driver = driver;
+    }
+    
+    protected <T> T waitUntil(Function<WebDriver, T> condition, Object waitKey, Duration timeout, Duration pollingInterval) {
+        long startTime = System.nanoTime();
+        boolean satisfied = false;
+        try {
+            Wait<WebDriver> engine = new FluentWait<>(driver)
+                .withTimeout(timeout)
+                .pollingEvery(pollingInterval)
+                .ignoring(NoSuchElementException.class)
+                .ignoring(StaleElementReferenceException.class);
+            T result = engine.until(condition);
+            satisfied = true;
+            return result;
+        } finally {
+            WaitStats.record(waitKey, System.nanoTime() - startTime, satisfied);
+            TraceRecorder.end("wait", waitKey, startTime, satisfied ? null : "timeout");
+        }
+    }
+    
+    protected <T> T waitUntil(Function<WebDriver, T> condition, Object waitKey, int timeoutSeconds) {
+        return waitUntil(condition, waitKey, Duration.ofSeconds(timeoutSeconds),
+            Duration.ofMillis(Config.POLLING_INTERVAL_MILLIS));
+    }
+    
+    @SuppressWarnings("unchecked")
+    protected <T> T waitForCondition(String kind, By[] locators, Object argument, Function<WebDriver, T> pollCondition,
+                                     Function<Object, T> resultMapper, Object waitKey, int timeoutSeconds) {
+        List<List<Object>> scriptLocators = toScriptLocators(locators);
+        if (scriptLocators == null || !EventWait.isEnabled(driver, timeoutSeconds)) {
+            return waitUntil(pollCondition, waitKey, timeoutSeconds);
+        }
+        
+        long startTime = System.nanoTime();
+        long timeoutNanos = TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        Object result;
+        try {
+            result = EventWait.await(driver, kind, scriptLocators, argument, TimeUnit.NANOSECONDS.toMillis(timeoutNanos));
+        } catch (JavascriptException e) {
+            // Only a document replaced while the watcher was running is recoverable by polling for the rest of
+            // the timeout; any other script error (bad locator, bug in the watcher) is rethrown
+            if (!isNavigationError(e)) {
+                throw e;
+            }
+            long remaining = Math.max(0, timeoutNanos - (System.nanoTime() - startTime));
+            logger.debug("Event wait for {} interrupted by navigation, polling for remaining {} ms", waitKey,
+                TimeUnit.NANOSECONDS.toMillis(remaining));
+            return waitUntil(pollCondition, waitKey, Duration.ofNanos(remaining),
+                Duration.ofMillis(Config.POLLING_INTERVAL_MILLIS));
+        }
+        
+        WaitStats.record(waitKey, System.nanoTime() - startTime, result != null);
+        TraceRecorder.end("wait", waitKey, startTime, result != null ? "event" : "event timeout");
+        if (result == null) {
+            throw new TimeoutException("Expected condition failed: waiting for " + waitKey
+                + " (event wait, tried for " + timeoutSeconds + " second(s))");
+        }
+        return resultMapper != null ? resultMapper.apply(result) : (T) result;
+    }
+    
+    // ChromeDriver reports "document unloaded while waiting for result" or "Inspected target navigated or closed",
+    // GeckoDriver "Document was unloaded"
+    private static boolean isNavigationError(JavascriptException e) {
+        String message = e.getMessage() == null ? "" : e.getMessage().toLowerCase();
+        return message.contains("unloaded") || message.contains("navigated") || message.contains("frame detached");
+    }
+    
+    protected <T> T waitForCondition(String kind, By locator, Object argument, Function<WebDriver, T> pollCondition,
+                                     int timeoutSeconds) {
+        return waitForCondition(kind, new By[] {locator}, argument, pollCondition, null, locator, timeoutSeconds);
+    }
+    
+    public LocatorMatch findFirstMatch(int timeoutSeconds, boolean requireVisible, By... candidates) {
+        try {
+            return awaitFirstMatch(timeoutSeconds, requireVisible, candidates);
+        } catch (Exception e) {
+            logger.debug("None of {} locators matched within {} seconds", candidates.length, timeoutSeconds);
+            return null;
+        }
+    }
+    
+    public LocatorMatch findFirstMatch(String elementName, int timeoutSeconds, boolean requireVisible, By... candidates) {
+        String elementKey = getClass().getSimpleName() + "." + elementName;
+        By[] orderedCandidates = LocatorCache.order(elementKey, candidates);
+        try {
+            LocatorMatch match = awaitFirstMatch(timeoutSeconds, requireVisible, orderedCandidates);
+            LocatorCache.recordHit(elementKey, match.locator());
+            return match;
+        } catch (TimeoutException e) {
+            LocatorCache.recordTimeout(elementKey, orderedCandidates);
+            logger.debug("None of {} locators matched within {} seconds", candidates.length, timeoutSeconds);
+            return null;
+        } catch (Exception e) {
+            logger.debug("Locator lookup for {} failed: {}", elementKey, e.getMessage());
+            return null;
+        }
+    }
+    
+    private LocatorMatch awaitFirstMatch(int timeoutSeconds, boolean requireVisible, By... candidates) {
+        LocatorMatch match = waitForCondition(EventWait.FIRST_MATCH, candidates, requireVisible,
+            webDriver -> resolveFirstMatch(requireVisible, candidates), result -> toLocatorMatch(result, candidates),
+            Arrays.asList(candidates), timeoutSeconds);
+        if (logger.isInfoEnabled()) {
+            logger.info("Resolved locator {}/{}: {} - Count: {}", Unbox.box(match.index() + 1),
+                Unbox.box(candidates.length), match.locator(), Unbox.box(match.elements().size()));
+        }
+        return match;
+    }
+    
+    protected LocatorMatch resolveFirstMatch(boolean requireVisible, By... candidates) {
+        List<List<Object>> scriptLocators = toScriptLocators(candidates);
+        if (scriptLocators != null) {
+            List<?> result = (List<?>) ((JavascriptExecutor) driver)
+                .executeScript(FIRST_MATCH_SCRIPT, scriptLocators, requireVisible);
+            if (result == null) {
+                return null;
+            }
+            return toLocatorMatch(result, candidates);
+        }
+        
+        for (int i = 0; i < candidates.length; i++) {
+            List<WebElement> elements = driver.findElements(candidates[i]);
+            if (requireVisible) {
+                elements = elements.stream().filter(WebElement::isDisplayed).collect(Collectors.toList());
+            }
+            if (!elements.isEmpty()) {
+                return new LocatorMatch(i, candidates[i], elements);
+            }
+        }
+        return null;
+    }
+    
+    private LocatorMatch toLocatorMatch(Object scriptResult, By... candidates) {
+        List<?> result = (List<?>) scriptResult;
+        int index = ((Number) result.get(0)).intValue();
+        @SuppressWarnings("unchecked")
+        List<WebElement> elements = (List<WebElement>) result.get(1);
+        return new LocatorMatch(index, candidates[index], elements);
+    }
+    
+    protected List<List<Object>> toScriptLocators(By... locators) {
+        if (!(driver instanceof JavascriptExecutor)) {
+            return null;
+        }
+        List<List<Object>> scriptLocators = new ArrayList<>(locators.length);
+        for (By locator : locators) {
+            if (!(locator instanceof By.Remotable)) {
+                return null;
+            }
+            By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+            if (!"xpath".equals(parameters.using()) && !"css selector".equals(parameters.using())) {
+                return null;
+            }
+            scriptLocators.add(Arrays.asList(parameters.using(), String.valueOf(parameters.value())));
+        }
+        return scriptLocators;
     }
     
     public void navigateTo(String url) {
+        long startTime = ActionLogger.start();
         try {
             driver.get(url);
-            logger.info("Navigated to URL: " + url);
-            waitForPageLoad();
+            logger.info("Navigated to URL: {}", url);
+            waitUntilReady();
             
             handleCookieBanner();
+            ActionLogger.log("navigate", url, startTime, Outcome.SUCCESS);
             
         } catch (Exception e) {
-            logger.error("Error navigating to URL " + url + ": " + e.getMessage());
+            ActionLogger.log("navigate", url, startTime, Outcome.FAILED);
+            logger.error("Error navigating to URL {}: {}", url, e.getMessage());
             takeScreenshot("navigation_error");
             throw new RuntimeException("Failed to navigate to URL: " + url, e);
         }
     }
     
+    protected PageReadiness readiness() {
+        return PageReadiness.domContentLoaded().and(PageReadiness.domQuiet(Config.DOM_QUIET_MILLIS));
+    }
+    
+    public boolean waitUntilReady() {
+        return waitUntilReady(readiness(), Config.PAGE_LOAD_TIMEOUT);
+    }
+    
+    public boolean waitUntilReady(PageReadiness readiness, int timeoutSeconds) {
+        String waitKey = getClass().getSimpleName() + " ready: " + readiness.name();
+        try {
+            readiness.start().accept(driver);
+            waitUntil(webDriver -> readiness.condition().test(webDriver), waitKey, timeoutSeconds);
+            logger.info("{}", waitKey);
+            return true;
+        } catch (Exception e) {
+            logger.warn("{} not reached within {} seconds: {}", waitKey, timeoutSeconds, e.getMessage());
+            return false;
+        }
+    }
+    
     public void waitForPageLoad() {
         try {
-            wait.until(webDriver -> 
-                ((JavascriptExecutor) webDriver).executeScript("return document.readyState").equals("complete"));
+            waitForCondition(EventWait.DOCUMENT_COMPLETE, new By[0], null, webDriver -> 
+                ((JavascriptExecutor) webDriver).executeScript("return document.readyState").equals("complete"),
+                null, PAGE_LOAD_WAIT_KEY, Config.EXPLICIT_WAIT);
             logger.info("Page loaded successfully");
         } catch (Exception e) {
-            logger.error("Error waiting for page load: " + e.getMessage());
+            logger.error("Error waiting for page load: {}", e.getMessage());
         }
     }
     
     public WebElement waitForElementVisible(By locator) {
         try {
-            WebElement element = wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
-            logger.info("Element is visible: " + locator);
+            WebElement element = waitForCondition(EventWait.VISIBLE, locator, null,
+                ExpectedConditions.visibilityOfElementLocated(locator), Config.EXPLICIT_WAIT);
+            logger.info("Element is visible: {}", locator);
             return element;
         } catch (Exception e) {
-            logger.error("Element not visible: " + locator + " - " + e.getMessage());
+            logger.error("Element not visible: {} - {}", locator, e.getMessage());
             takeScreenshot("element_not_visible");
             throw new RuntimeException("Element not visible: " + locator, e);
         }
@@ -66,29 +281,31 @@ public class BasePage {
     
     public WebElement waitForElementVisible(By locator, int timeoutSeconds) {
         try {
-            WebDriverWait customWait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-            WebElement element = customWait.until(ExpectedConditions.visibilityOfElementLocated(locator));
-            logger.info("Element is visible: " + locator);
+            WebElement element = waitForCondition(EventWait.VISIBLE, locator, null,
+                ExpectedConditions.visibilityOfElementLocated(locator), timeoutSeconds);
+            logger.info("Element is visible: {}", locator);
             return element;
         } catch (Exception e) {
-            logger.debug("Element not found within " + timeoutSeconds + " seconds: " + locator);
+            logger.debug("Element not found within {} seconds: {}", timeoutSeconds, locator);
             return null;
         }
     }
     
     public WebElement waitForElementClickable(By locator) {
         try {
-            WebElement element = wait.until(ExpectedConditions.elementToBeClickable(locator));
-            logger.info("Element is clickable: " + locator);
+            WebElement element = waitForCondition(EventWait.CLICKABLE, locator, null,
+                ExpectedConditions.elementToBeClickable(locator), Config.EXPLICIT_WAIT);
+            logger.info("Element is clickable: {}", locator);
             return element;
         } catch (Exception e) {
-            logger.error("Element not clickable: " + locator + " - " + e.getMessage());
+            logger.error("Element not clickable: {} - {}", locator, e.getMessage());
             takeScreenshot("element_not_clickable");
             throw new RuntimeException("Element not clickable: " + locator, e);
         }
     }
     
     public void clickElement(By locator) {
+        long startTime = ActionLogger.start();
         try {
             WebElement element = waitForElementClickable(locator);
             
@@ -97,30 +314,30 @@ public class BasePage {
             try {
 
                 element.click();
-                logger.info("Clicked on element using normal click: " + locator);
+                ActionLogger.log("click", locator, startTime, Outcome.SUCCESS);
             } catch (Exception e1) {
-                logger.warn("Normal click failed, trying JavaScript click: " + locator);
+                logger.warn("Normal click failed, trying JavaScript click: {}", locator);
                 try {
 
                     ((JavascriptExecutor) driver).executeScript("arguments[0].click();", element);
-                    logger.info("Clicked on element using JavaScript: " + locator);
+                    ActionLogger.log("click", locator, startTime, Outcome.RECOVERED);
                 } catch (Exception e2) {
-                    logger.warn("JavaScript click failed, trying Actions click: " + locator);
+                    logger.warn("JavaScript click failed, trying Actions click: {}", locator);
                     try {
 
                         org.openqa.selenium.interactions.Actions actions = 
                             new org.openqa.selenium.interactions.Actions(driver);
                         actions.moveToElement(element).click().perform();
-                        logger.info("Clicked on element using Actions: " + locator);
+                        ActionLogger.log("click", locator, startTime, Outcome.RECOVERED);
                     } catch (Exception e3) {
-                        logger.warn("Actions click failed, trying force click: " + locator);
+                        logger.warn("Actions click failed, trying force click: {}", locator);
                         try {
 
                             ((JavascriptExecutor) driver)
                                 .executeScript("arguments[0].dispatchEvent(new MouseEvent('click', {bubbles: true}));", element);
-                            logger.info("Clicked on element using force click: " + locator);
+                            ActionLogger.log("click", locator, startTime, Outcome.RECOVERED);
                         } catch (Exception e4) {
-                            logger.error("All click methods failed for element: " + locator);
+                            logger.error("All click methods failed for element: {}", locator);
                             takeScreenshot("click_error");
                             throw new RuntimeException("Failed to click element: " + locator, e4);
                         }
@@ -129,7 +346,8 @@ public class BasePage {
             }
             
         } catch (Exception e) {
-            logger.error("Error clicking element: " + locator + " - " + e.getMessage());
+            ActionLogger.log("click", locator, startTime, Outcome.FAILED);
+            logger.error("Error clicking element: {} - {}", locator, e.getMessage());
             takeScreenshot("click_error");
             throw new RuntimeException("Failed to click element: " + locator, e);
         }
@@ -137,13 +355,16 @@ public class BasePage {
     
     
     public void sendText(By locator, String text) {
+        long startTime = ActionLogger.start();
         try {
             WebElement element = waitForElementVisible(locator);
             element.clear();
             element.sendKeys(text);
-            logger.info("Sent text to element: " + locator + " - Text: " + text);
+            logger.debug("Sent text to element: {} - Text: {}", locator, text);
+            ActionLogger.log("sendText", locator, startTime, Outcome.SUCCESS);
         } catch (Exception e) {
-            logger.error("Error sending text to element: " + locator + " - " + e.getMessage());
+            ActionLogger.log("sendText", locator, startTime, Outcome.FAILED);
+            logger.error("Error sending text to element: {} - {}", locator, e.getMessage());
             takeScreenshot("send_text_error");
             throw new RuntimeException("Failed to send text to element: " + locator, e);
         }
@@ -151,13 +372,16 @@ public class BasePage {
     
     
     public String getElementText(By locator) {
+        long startTime = ActionLogger.start();
         try {
             WebElement element = waitForElementVisible(locator);
             String text = element.getText();
-            logger.info("Got text from element: " + locator + " - Text: " + text);
+            logger.debug("Got text from element: {} - Text: {}", locator, text);
+            ActionLogger.log("getText", locator, startTime, Outcome.SUCCESS);
             return text;
         } catch (Exception e) {
-            logger.error("Error getting text from element: " + locator + " - " + e.getMessage());
+            ActionLogger.log("getText", locator, startTime, Outcome.FAILED);
+            logger.error("Error getting text from element: {} - {}", locator, e.getMessage());
             takeScreenshot("get_text_error");
             throw new RuntimeException("Failed to get text from element: " + locator, e);
         }
@@ -166,15 +390,16 @@ public class BasePage {
     
     public boolean isElementDisplayed(By locator) {
         try {
-            WebElement element = driver.findElement(locator);
-            boolean isDisplayed = element.isDisplayed();
-            logger.info("Element display status: " + locator + " - Displayed: " + isDisplayed);
+            List<WebElement> elements = driver.findElements(locator);
+            if (elements.isEmpty()) {
+                logger.info("Element not found: {}", locator);
+                return false;
+            }
+            boolean isDisplayed = elements.get(0).isDisplayed();
+            logger.info("Element display status: {} - Displayed: {}", locator, isDisplayed);
             return isDisplayed;
-        } catch (NoSuchElementException e) {
-            logger.info("Element not found: " + locator);
-            return false;
         } catch (Exception e) {
-            logger.error("Error checking element display: " + locator + " - " + e.getMessage());
+            logger.error("Error checking element display: {} - {}", locator, e.getMessage());
             return false;
         }
     }
@@ -183,22 +408,24 @@ public class BasePage {
     public List<WebElement> getElements(By locator) {
         try {
             List<WebElement> elements = driver.findElements(locator);
-            logger.info("Found " + elements.size() + " elements for locator: " + locator);
+            logger.info("Found {} elements for locator: {}", elements.size(), locator);
             return elements;
         } catch (Exception e) {
-            logger.error("Error finding elements: " + locator + " - " + e.getMessage());
+            logger.error("Error finding elements: {} - {}", locator, e.getMessage());
             return null;
         }
     }
     
     
     public void scrollToElement(By locator) {
+        long startTime = ActionLogger.start();
         try {
             WebElement element = waitForElementVisible(locator);
             ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView(true);", element);
-            logger.info("Scrolled to element: " + locator);
+            ActionLogger.log("scroll", locator, startTime, Outcome.SUCCESS);
         } catch (Exception e) {
-            logger.error("Error scrolling to element: " + locator + " - " + e.getMessage());
+            ActionLogger.log("scroll", locator, startTime, Outcome.FAILED);
+            logger.error("Error scrolling to element: {} - {}", locator, e.getMessage());
         }
     }
     
@@ -206,9 +433,9 @@ public class BasePage {
     public void scrollToElement(WebElement element) {
         try {
             ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView(true);", element);
-            logger.info("Scrolled to element: " + element);
+            logger.info("Scrolled to element: {}", element);
         } catch (Exception e) {
-            logger.error("Error scrolling to element: " + element + " - " + e.getMessage());
+            logger.error("Error scrolling to element: {} - {}", element, e.getMessage());
         }
     }
     
@@ -216,11 +443,11 @@ public class BasePage {
     public void verifyPageTitle(String expectedTitle) {
         try {
             String actualTitle = driver.getTitle();
-            logger.info("Page title verification - Expected: " + expectedTitle + ", Actual: " + actualTitle);
+            logger.info("Page title verification - Expected: {}, Actual: {}", expectedTitle, actualTitle);
             Assert.assertTrue(actualTitle.contains(expectedTitle), 
                 "Page title verification failed. Expected: " + expectedTitle + ", Actual: " + actualTitle);
         } catch (Exception e) {
-            logger.error("Error verifying page title: " + e.getMessage());
+            logger.error("Error verifying page title: {}", e.getMessage());
             takeScreenshot("title_verification_error");
             throw e;
         }
@@ -230,11 +457,11 @@ public class BasePage {
     public void verifyCurrentUrl(String expectedUrl) {
         try {
             String actualUrl = driver.getCurrentUrl();
-            logger.info("URL verification - Expected: " + expectedUrl + ", Actual: " + actualUrl);
+            logger.info("URL verification - Expected: {}, Actual: {}", expectedUrl, actualUrl);
             Assert.assertTrue(actualUrl.contains(expectedUrl), 
                 "URL verification failed. Expected: " + expectedUrl + ", Actual: " + actualUrl);
         } catch (Exception e) {
-            logger.error("Error verifying URL: " + e.getMessage());
+            logger.error("Error verifying URL: {}", e.getMessage());
             takeScreenshot("url_verification_error");
             throw e;
         }
@@ -250,9 +477,9 @@ public class BasePage {
     public void waitForSeconds(int seconds) {
         try {
             Thread.sleep(seconds * 1000L);
-            logger.info("Waited for " + seconds + " seconds");
+            logger.info("Waited for {} seconds", seconds);
         } catch (InterruptedException e) {
-            logger.error("Error waiting: " + e.getMessage());
+            logger.error("Error waiting: {}", e.getMessage());
             Thread.currentThread().interrupt();
         }
     }
@@ -260,12 +487,12 @@ public class BasePage {
     
     public WebElement waitForElementClickable(By locator, int timeoutSeconds) {
         try {
-            WebDriverWait customWait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-            WebElement element = customWait.until(ExpectedConditions.elementToBeClickable(locator));
-            logger.info("Element is clickable: " + locator);
+            WebElement element = waitForCondition(EventWait.CLICKABLE, locator, null,
+                ExpectedConditions.elementToBeClickable(locator), timeoutSeconds);
+            logger.info("Element is clickable: {}", locator);
             return element;
         } catch (Exception e) {
-            logger.debug("Element not clickable within " + timeoutSeconds + " seconds: " + locator);
+            logger.debug("Element not clickable within {} seconds: {}", timeoutSeconds, locator);
             return null;
         }
     }
@@ -273,12 +500,12 @@ public class BasePage {
     
     public WebElement waitForElementPresent(By locator, int timeoutSeconds) {
         try {
-            WebDriverWait customWait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-            WebElement element = customWait.until(ExpectedConditions.presenceOfElementLocated(locator));
-            logger.info("Element is present: " + locator);
+            WebElement element = waitForCondition(EventWait.PRESENT, locator, null,
+                ExpectedConditions.presenceOfElementLocated(locator), timeoutSeconds);
+            logger.info("Element is present: {}", locator);
             return element;
         } catch (Exception e) {
-            logger.debug("Element not present within " + timeoutSeconds + " seconds: " + locator);
+            logger.debug("Element not present within {} seconds: {}", timeoutSeconds, locator);
             return null;
         }
     }
@@ -286,12 +513,12 @@ public class BasePage {
     
     public boolean waitForTextInElement(By locator, String text, int timeoutSeconds) {
         try {
-            WebDriverWait customWait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-            boolean result = customWait.until(ExpectedConditions.textToBePresentInElementLocated(locator, text));
-            logger.info("Text '" + text + "' is present in element: " + locator);
+            boolean result = waitForCondition(EventWait.TEXT, locator, text,
+                ExpectedConditions.textToBePresentInElementLocated(locator, text), timeoutSeconds);
+            logger.info("Text '{}' is present in element: {}", text, locator);
             return result;
         } catch (Exception e) {
-            logger.debug("Text '" + text + "' not present in element within " + timeoutSeconds + " seconds: " + locator);
+            logger.debug("Text '{}' not present in element within {} seconds: {}", text, timeoutSeconds, locator);
             return false;
         }
     }
@@ -299,12 +526,12 @@ public class BasePage {
     
     public boolean waitForElementInvisible(By locator, int timeoutSeconds) {
         try {
-            WebDriverWait customWait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-            boolean result = customWait.until(ExpectedConditions.invisibilityOfElementLocated(locator));
-            logger.info("Element is invisible: " + locator);
+            boolean result = waitForCondition(EventWait.INVISIBLE, locator, null,
+                ExpectedConditions.invisibilityOfElementLocated(locator), timeoutSeconds);
+            logger.info("Element is invisible: {}", locator);
             return result;
         } catch (Exception e) {
-            logger.debug("Element still visible after " + timeoutSeconds + " seconds: " + locator);
+            logger.debug("Element still visible after {} seconds: {}", timeoutSeconds, locator);
             return false;
         }
     }
@@ -312,12 +539,12 @@ public class BasePage {
     
     public List<WebElement> waitForElementsCount(By locator, int expectedCount, int timeoutSeconds) {
         try {
-            WebDriverWait customWait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-            List<WebElement> elements = customWait.until(ExpectedConditions.numberOfElementsToBe(locator, expectedCount));
-            logger.info("Found " + elements.size() + " elements: " + locator);
+            List<WebElement> elements = waitForCondition(EventWait.COUNT, locator, expectedCount,
+                ExpectedConditions.numberOfElementsToBe(locator, expectedCount), timeoutSeconds);
+            logger.info("Found {} elements: {}", elements.size(), locator);
             return elements;
         } catch (Exception e) {
-            logger.debug("Expected " + expectedCount + " elements not found within " + timeoutSeconds + " seconds: " + locator);
+            logger.debug("Expected {} elements not found within {} seconds: {}", expectedCount, timeoutSeconds, locator);
             return null;
         }
     }
@@ -325,12 +552,12 @@ public class BasePage {
     
     public boolean waitForElementAttribute(By locator, String attribute, String value, int timeoutSeconds) {
         try {
-            WebDriverWait customWait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-            boolean result = customWait.until(ExpectedConditions.attributeToBe(locator, attribute, value));
-            logger.info("Element attribute '" + attribute + "' has value '" + value + "': " + locator);
+            boolean result = waitForCondition(EventWait.ATTRIBUTE, locator, Arrays.asList(attribute, value),
+                ExpectedConditions.attributeToBe(locator, attribute, value), timeoutSeconds);
+            logger.info("Element attribute '{}' has value '{}': {}", attribute, value, locator);
             return result;
         } catch (Exception e) {
-            logger.debug("Element attribute '" + attribute + "' does not have value '" + value + "' within " + timeoutSeconds + " seconds: " + locator);
+            logger.debug("Element attribute '{}' does not have value '{}' within {} seconds: {}", attribute, value, timeoutSeconds, locator);
             return false;
         }
     }
@@ -338,12 +565,12 @@ public class BasePage {
     
     public boolean waitForElementAttribute(WebElement element, String attribute, String value, int timeoutSeconds) {
         try {
-            WebDriverWait customWait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-            boolean result = customWait.until(ExpectedConditions.attributeToBe(element, attribute, value));
-            logger.info("Element attribute '" + attribute + "' has value '" + value + "'");
+            boolean result = waitUntil(ExpectedConditions.attributeToBe(element, attribute, value),
+                "WebElement attribute '" + attribute + "'", timeoutSeconds);
+            logger.info("Element attribute '{}' has value '{}'", attribute, value);
             return result;
         } catch (Exception e) {
-            logger.debug("Element attribute '" + attribute + "' does not have value '" + value + "' within " + timeoutSeconds + " seconds");
+            logger.debug("Element attribute '{}' does not have value '{}' within {} seconds", attribute, value, timeoutSeconds);
             return false;
         }
     }
@@ -351,12 +578,11 @@ public class BasePage {
     
     public WebElement waitForElementClickable(WebElement element, int timeoutSeconds) {
         try {
-            WebDriverWait customWait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-            WebElement result = customWait.until(ExpectedConditions.elementToBeClickable(element));
+            WebElement result = waitUntil(ExpectedConditions.elementToBeClickable(element), ELEMENT_CLICKABLE_WAIT_KEY, timeoutSeconds);
             logger.info("Element is clickable");
             return result;
         } catch (Exception e) {
-            logger.debug("Element not clickable within " + timeoutSeconds + " seconds");
+            logger.debug("Element not clickable within {} seconds", timeoutSeconds);
             return null;
         }
     }
@@ -364,17 +590,12 @@ public class BasePage {
     
     public <T> T fluentWait(Function<WebDriver, T> condition, int timeoutSeconds, int pollingIntervalSeconds) {
         try {
-            Wait<WebDriver> fluentWait = new FluentWait<>(driver)
-                .withTimeout(Duration.ofSeconds(timeoutSeconds))
-                .pollingEvery(Duration.ofSeconds(pollingIntervalSeconds))
-                .ignoring(NoSuchElementException.class)
-                .ignoring(StaleElementReferenceException.class);
-            
-            T result = fluentWait.until(condition);
+            T result = waitUntil(condition, "fluent wait condition", Duration.ofSeconds(timeoutSeconds),
+                Duration.ofSeconds(pollingIntervalSeconds));
             logger.info("Fluent wait condition met");
             return result;
         } catch (Exception e) {
-            logger.debug("Fluent wait condition not met within " + timeoutSeconds + " seconds: " + e.getMessage());
+            logger.debug("Fluent wait condition not met within {} seconds: {}", timeoutSeconds, e.getMessage());
             return null;
         }
     }
@@ -382,13 +603,13 @@ public class BasePage {
     
     public boolean waitForPageLoad(int timeoutSeconds) {
         try {
-            WebDriverWait customWait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-            boolean result = customWait.until(webDriver -> 
-                ((JavascriptExecutor) webDriver).executeScript("return document.readyState").equals("complete"));
+            boolean result = waitForCondition(EventWait.DOCUMENT_COMPLETE, new By[0], null, webDriver -> 
+                ((JavascriptExecutor) webDriver).executeScript("return document.readyState").equals("complete"),
+                null, PAGE_LOAD_WAIT_KEY, timeoutSeconds);
             logger.info("Page loaded successfully");
             return result;
         } catch (Exception e) {
-            logger.error("Error waiting for page load: " + e.getMessage());
+            logger.error("Error waiting for page load: {}", e.getMessage());
             return false;
         }
     }
@@ -396,19 +617,22 @@ public class BasePage {
     
     public boolean waitForJavaScript(String javascript, int timeoutSeconds) {
         try {
-            WebDriverWait customWait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-            boolean result = customWait.until(webDriver -> 
-                (Boolean) ((JavascriptExecutor) webDriver).executeScript(javascript));
-            logger.info("JavaScript condition met: " + javascript);
+            boolean result = waitUntil(webDriver -> 
+                (Boolean) ((JavascriptExecutor) webDriver).executeScript(javascript), javascript, timeoutSeconds);
+            logger.info("JavaScript condition met: {}", javascript);
             return result;
         } catch (Exception e) {
-            logger.debug("JavaScript condition not met within " + timeoutSeconds + " seconds: " + javascript);
+            logger.debug("JavaScript condition not met within {} seconds: {}", timeoutSeconds, javascript);
             return false;
         }
     }
     
     
     public void handleCookieBanner() {
+        if (CookieConsent.isAccepted(driver)) {
+            return;
+        }
+        long startTime = TraceRecorder.begin();
         try {
             logger.info("Checking for cookie banner");
             
@@ -418,65 +642,62 @@ public class BasePage {
             By acceptAllButtonAlternative = By.xpath("//a[contains(@class, 'wt-cli-accept-all-btn') or contains(text(), 'Accept All')]");
             
 
-            if (isElementDisplayed(cookieBanner)) {
+            // Without a consent cookie the bar is injected by script and can appear after DOM quiet, so give it a
+            // short event-driven wait instead of a one-shot check (implicit wait is 0)
+            boolean consentCookiePresent = driver.manage().getCookieNamed(CookieConsent.CONSENT_COOKIE) != null;
+            boolean bannerShown = consentCookiePresent
+                ? isElementDisplayed(cookieBanner)
+                : waitForElementVisible(cookieBanner, Config.SHORT_WAIT) != null;
+            
+            if (bannerShown) {
                 logger.info("Cookie banner found, attempting to click 'Accept All' button");
                 
 
                 WebElement acceptButton = null;
                 
-                try {
-                    if (waitForElementVisible(acceptAllButton, 5) != null) {
-                        acceptButton = driver.findElement(acceptAllButton);
-                        logger.info("Found Accept All button with ID locator");
-                    }
-                } catch (Exception e) {
-                    logger.debug("Accept All button not found with ID locator, trying alternative");
-                }
-                
-                if (acceptButton == null) {
-                    try {
-                        if (waitForElementVisible(acceptAllButtonAlternative, 5) != null) {
-                            acceptButton = driver.findElement(acceptAllButtonAlternative);
-                            logger.info("Found Accept All button with alternative locator");
-                        }
-                    } catch (Exception e) {
-                        logger.debug("Accept All button not found with alternative locator");
-                    }
+                LocatorMatch acceptMatch = findFirstMatch("cookieAcceptButton", Config.SHORT_WAIT, true, acceptAllButton, acceptAllButtonAlternative);
+                if (acceptMatch != null) {
+                    acceptButton = acceptMatch.element();
+                    logger.info("Found Accept All button with locator: {}", acceptMatch.locator());
                 }
                 
                 if (acceptButton != null) {
                     try {
 
                         scrollToElement(acceptButton);
-                        waitForSeconds(1);
-                        
-
                         acceptButton.click();
                         logger.info("Successfully clicked 'Accept All' button");
                         
-
-                        waitForSeconds(2);
-                        
                     } catch (Exception e) {
                         logger.warn("Normal click failed, trying JavaScript click");
                         try {
                             ((JavascriptExecutor) driver).executeScript("arguments[0].click();", acceptButton);
                             logger.info("Successfully clicked 'Accept All' button using JavaScript");
-                            waitForSeconds(2);
                         } catch (Exception e2) {
-                            logger.error("Failed to click Accept All button: " + e2.getMessage());
+                            logger.error("Failed to click Accept All button: {}", e2.getMessage());
+                            return;
                         }
                     }
+                    
+                    if (waitForElementInvisible(cookieBanner, Config.SHORT_WAIT)) {
+                        CookieConsent.markAccepted(driver);
+                    }
                 } else {
                     logger.warn("Accept All button not found in cookie banner");
                 }
             } else {
                 logger.info("No cookie banner found");
+                // Consent pre-seeded or given earlier in this lease, skip the check on later navigations
+                if (consentCookiePresent) {
+                    CookieConsent.markAccepted(driver);
+                }
             }
             
         } catch (Exception e) {
-            logger.warn("Error handling cookie banner: " + e.getMessage());
+            logger.warn("Error handling cookie banner: {}", e.getMessage());
 
+        } finally {
+            TraceRecorder.end("action", "handleCookieBanner", startTime);
         }
     }
 }
@@ -43,6 +43,12 @@ public class CareersPage extends BasePage {
         super();
     }
     
+    @Override
+    protected PageReadiness readiness() {
+        return PageReadiness.elementsPresent(TEAMS_SECTION, LOCATIONS_SECTION)
+            .and(PageReadiness.domQuiet(Config.DOM_QUIET_MILLIS));
+    }
+    
     public void navigateToCareersPage() {
         navigateTo(Config.CAREERS_URL);
         verifyPageTitle("Careers");
@@ -391,7 +397,7 @@ public class CareersPage extends BasePage {
                 }
                 
                 if (clickSuccess) {
-                    waitForPageLoad(Config.MEDIUM_WAIT); // Wait for content to load
+                    waitUntilReady(PageReadiness.domQuiet(Config.DOM_QUIET_MILLIS), Config.MEDIUM_WAIT); // Wait for the expanded teams to render
                     return true;
                 } else {
                     logger.error("See all teams button click failed");
@@ -512,8 +518,9 @@ public class CareersPage extends BasePage {
             scrollToElement(SEE_ALL_QA_JOBS_BUTTON);
             clickElement(SEE_ALL_QA_JOBS_BUTTON);
             logger.info("Clicked on 'See all QA jobs' button");
-            waitForPageLoad();
-            return new QACareersPage();
+            QACareersPage qaCareersPage = new QACareersPage();
+            qaCareersPage.waitUntilReady();
+            return qaCareersPage;
         } catch (Exception e) {
             logger.error("Error clicking 'See all QA jobs' button: " + e.getMessage());
             takeScreenshot("click_qa_jobs_error");
@@ -0,0 +1,110 @@
+package automation.com.pages;
+
+import automation.com.config.Config;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.List;
+
+// Resolves a wait inside the browser with a single executeAsyncScript call: the condition is re-checked
+// on DOM mutations (batched per animation frame), ready-state and transition events, and a slow safety tick.
+public class EventWait {
+
+    public static final String PRESENT = "present";
+    public static final String VISIBLE = "visible";
+    public static final String CLICKABLE = "clickable";
+    public static final String INVISIBLE = "invisible";
+    public static final String TEXT = "text";
+    public static final String COUNT = "count";
+    public static final String ATTRIBUTE = "attribute";
+    public static final String DOCUMENT_COMPLETE = "complete";
+    public static final String FIRST_MATCH = "firstMatch";
+
+    private static final int SAFETY_TICK_MILLIS = 250;
+
+    private static final String WATCH_SCRIPT =
+        "var kind = arguments[0], locators = arguments[1], arg = arguments[2], timeoutMillis = arguments[3]," +
+        "    tickMillis = arguments[4], done = arguments[arguments.length - 1];" +
+        "function find(locator) {" +
+        "  if (locator[0] === 'xpath') {" +
+        "    var snapshot = document.evaluate(locator[1], document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);" +
+        "    var found = [];" +
+        "    for (var j = 0; j < snapshot.snapshotLength; j++) { found.push(snapshot.snapshotItem(j)); }" +
+        "    return found;" +
+        "  }" +
+        "  return Array.prototype.slice.call(document.querySelectorAll(locator[1]));" +
+        "}" +
+        "function isVisible(e) {" +
+        "  var style = window.getComputedStyle(e);" +
+        "  return style.visibility !== 'hidden' && style.display !== 'none' && e.getClientRects().length > 0;" +
+        "}" +
+        "function check() {" +
+        "  var found, i;" +
+        "  switch (kind) {" +
+        "    case 'complete': return document.readyState === 'complete' ? true : null;" +
+        "    case 'present': found = find(locators[0]); return found.length > 0 ? found[0] : null;" +
+        "    case 'visible': found = find(locators[0]); return found.length > 0 && isVisible(found[0]) ? found[0] : null;" +
+        "    case 'clickable': found = find(locators[0]);" +
+        "      return found.length > 0 && isVisible(found[0]) && !found[0].disabled ? found[0] : null;" +
+        "    case 'invisible': found = find(locators[0]); return found.length === 0 || !isVisible(found[0]) ? true : null;" +
+        "    case 'text': found = find(locators[0]);" +
+        "      return found.length > 0 && (found[0].innerText || found[0].textContent || '').indexOf(arg) >= 0 ? true : null;" +
+        "    case 'count': found = find(locators[0]); return found.length === arg ? found : null;" +
+        "    case 'attribute': found = find(locators[0]);" +
+        "      return found.length > 0 && found[0].getAttribute(arg[0]) === arg[1] ? true : null;" +
+        "    case 'firstMatch':" +
+        "      for (i = 0; i < locators.length; i++) {" +
+        "        found = find(locators[i]);" +
+        "        if (arg) { found = found.filter(isVisible); }" +
+        "        if (found.length > 0) { return [i, found]; }" +
+        "      }" +
+        "      return null;" +
+        "  }" +
+        "  throw new Error('Unknown wait kind: ' + kind);" +
+        "}" +
+        "var initial = check();" +
+        "if (initial !== null) { done(initial); return; }" +
+        "var finished = false, scheduled = false, observer, timer, tick;" +
+        "function finish(value) {" +
+        "  if (finished) { return; }" +
+        "  finished = true;" +
+        "  if (observer) { observer.disconnect(); }" +
+        "  clearTimeout(timer); clearInterval(tick);" +
+        "  document.removeEventListener('readystatechange', schedule);" +
+        "  document.removeEventListener('transitionend', schedule, true);" +
+        "  document.removeEventListener('animationend', schedule, true);" +
+        "  done(value);" +
+        "}" +
+        "function evaluate() {" +
+        "  scheduled = false;" +
+        "  if (finished) { return; }" +
+        "  var result = check();" +
+        "  if (result !== null) { finish(result); }" +
+        "}" +
+        "function schedule() {" +
+        "  if (scheduled || finished) { return; }" +
+        "  scheduled = true;" +
+        "  window.requestAnimationFrame(evaluate);" +
+        "}" +
+        "observer = new MutationObserver(schedule);" +
+        "observer.observe(document.documentElement || document," +
+        "  { childList: true, subtree: true, attributes: true, characterData: true });" +
+        "document.addEventListener('readystatechange', schedule);" +
+        "document.addEventListener('transitionend', schedule, true);" +
+        "document.addEventListener('animationend', schedule, true);" +
+        "tick = setInterval(evaluate, tickMillis);" +
+        "timer = setTimeout(function() { finish(null); }, timeoutMillis);";
+
+    public static boolean isEnabled(WebDriver driver, int timeoutSeconds) {
+        return "event".equalsIgnoreCase(Config.WAIT_MODE)
+            && driver instanceof JavascriptExecutor
+            && timeoutSeconds < Config.SCRIPT_TIMEOUT;
+    }
+
+    // Returns null when the condition did not hold within the timeout
+    public static Object await(WebDriver driver, String kind, List<List<Object>> locators, Object argument,
+                               long timeoutMillis) {
+        return ((JavascriptExecutor) driver).executeAsyncScript(WATCH_SCRIPT, kind, locators, argument,
+            timeoutMillis, SAFETY_TICK_MILLIS);
+    }
+}
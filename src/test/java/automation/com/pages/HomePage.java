@@ -24,10 +24,15 @@ public class HomePage extends BasePage {
         super();
     }
     
+    @Override
+    protected PageReadiness readiness() {
+        return PageReadiness.domContentLoaded().and(PageReadiness.elementsPresent(MAIN_NAVIGATION, COMPANY_MENU));
+    }
+    
     public void navigateToHomePage() {
         navigateTo(Config.BASE_URL);
         verifyPageTitle("Insider");
-        verifyCurrentUrl("useinsider.com");
+        verifyCurrentUrl(Config.BASE_HOST);
         logger.info("Successfully navigated to Insider home page");
     }
     
@@ -140,20 +145,9 @@ public class HomePage extends BasePage {
             logger.info("Looking for Careers link in Company dropdown");
             
 
-            By[] careersLocators = {CAREERS_LINK, CAREERS_LINK_ALTERNATIVE, CAREERS_LINK_DROPDOWN, CAREERS_LINK_SIMPLE};
-            WebElement careersLink = null;
-            
-            for (By locator : careersLocators) {
-                try {
-                    if (waitForElementVisible(locator) != null) {
-                        careersLink = driver.findElement(locator);
-                        logger.info("Found Careers link with locator: " + locator);
-                        break;
-                    }
-                } catch (Exception e) {
-                    logger.debug("Careers link not found with locator: " + locator);
-                }
-            }
+            LocatorMatch careersMatch = findFirstMatch("careersLink", Config.EXPLICIT_WAIT, true,
+                CAREERS_LINK, CAREERS_LINK_ALTERNATIVE, CAREERS_LINK_DROPDOWN, CAREERS_LINK_SIMPLE);
+            WebElement careersLink = careersMatch != null ? careersMatch.element() : null;
             
             if (careersLink == null) {
                 logger.error("Careers link not found with any locator");
@@ -176,9 +170,9 @@ public class HomePage extends BasePage {
             }
             
 
-            waitForPageLoad(Config.PAGE_LOAD_TIMEOUT);
-            
-            return new CareersPage();
+            CareersPage careersPage = new CareersPage();
+            careersPage.waitUntilReady();
+            return careersPage;
         } catch (Exception e) {
             logger.error("Error clicking Careers link: " + e.getMessage());
             takeScreenshot("click_careers_error");
@@ -0,0 +1,36 @@
+package automation.com.pages;
+
+import automation.com.data.JobFilter;
+
+public record JobCard(String position, String department, String location, String link) {
+
+    public boolean positionContains(String expectedPosition) {
+        return position != null && position.contains(expectedPosition);
+    }
+
+    public boolean departmentContains(String expectedDepartment) {
+        return department != null && department.contains(expectedDepartment);
+    }
+
+    // Istanbul is listed as "Istanbul, Turkey", "Istanbul, Turkiye" or just "Istanbul" depending on the posting
+    public boolean locationContains(String expectedLocation) {
+        return location != null &&
+            (location.contains(expectedLocation) ||
+             location.contains("Istanbul, Turkiye") ||
+             location.contains("Istanbul"));
+    }
+
+    // Exact check for a selected filter combination, "All" accepts any value. The site lists only postings whose
+    // value equals the selected option, so "Sales" must not match "Sales Operations" nor "Istanbul" "Istanbul, Turkiye"
+    public boolean matchesFilter(JobFilter filter) {
+        return matchesOption(location, filter.location()) && matchesOption(department, filter.department());
+    }
+
+    private static boolean matchesOption(String value, String option) {
+        return "All".equals(option) || (value != null && value.trim().equals(option.trim()));
+    }
+
+    public boolean matches(String expectedPosition, String expectedDepartment, String expectedLocation) {
+        return positionContains(expectedPosition) && departmentContains(expectedDepartment) && locationContains(expectedLocation);
+    }
+}
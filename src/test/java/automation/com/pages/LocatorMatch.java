@@ -0,0 +1,13 @@
+package automation.com.pages;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+
+public record LocatorMatch(int index, By locator, List<WebElement> elements) {
+
+    public WebElement element() {
+        return elements.get(0);
+    }
+}
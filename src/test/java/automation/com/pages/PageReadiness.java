@@ -0,0 +1,76 @@
+package automation.com.pages;
+
+import automation.com.utils.NetworkActivity;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+// start runs once when a wait begins, before the condition is polled
+public record PageReadiness(String name, Consumer<WebDriver> start, Predicate<WebDriver> condition) {
+
+    // Installs a MutationObserver on first call and reports whether the DOM tree has been unchanged for
+    // the given time. Attribute changes are ignored so running carousels and animations don't keep it busy.
+    private static final String DOM_QUIET_SCRIPT =
+        "var quietMillis = arguments[0];" +
+        "if (!document.documentElement) { return false; }" +
+        "var state = window.__automationDomQuiet;" +
+        "if (!state) {" +
+        "  state = window.__automationDomQuiet = { last: performance.now() };" +
+        "  new MutationObserver(function() { state.last = performance.now(); })" +
+        "    .observe(document.documentElement, { childList: true, subtree: true, characterData: true });" +
+        "  return false;" +
+        "}" +
+        "return performance.now() - state.last >= quietMillis;";
+    // The observer lives as long as the document, so each wait restarts the quiet window; otherwise a wait
+    // right after a click could see the quiet period from before the click and return before the re-render
+    private static final String DOM_QUIET_RESET_SCRIPT =
+        "if (window.__automationDomQuiet) { window.__automationDomQuiet.last = performance.now(); }";
+
+    public static PageReadiness of(String name, Predicate<WebDriver> condition) {
+        return new PageReadiness(name, driver -> { }, condition);
+    }
+
+    public static PageReadiness domContentLoaded() {
+        return of("DOMContentLoaded", driver ->
+            !"loading".equals(((JavascriptExecutor) driver).executeScript("return document.readyState")));
+    }
+
+    public static PageReadiness documentComplete() {
+        return of("document complete", driver ->
+            "complete".equals(((JavascriptExecutor) driver).executeScript("return document.readyState")));
+    }
+
+    public static PageReadiness domQuiet(int quietMillis) {
+        return new PageReadiness("DOM quiet " + quietMillis + "ms",
+            driver -> ((JavascriptExecutor) driver).executeScript(DOM_QUIET_RESET_SCRIPT),
+            driver -> Boolean.TRUE.equals(((JavascriptExecutor) driver).executeScript(DOM_QUIET_SCRIPT, quietMillis)));
+    }
+
+    // Falls back to document complete when the driver has no DevTools session (e.g. Firefox)
+    public static PageReadiness networkIdle(int maxInFlight, int quietMillis) {
+        PageReadiness fallback = documentComplete();
+        return of("network idle (<=" + maxInFlight + " in flight, " + quietMillis + "ms)", driver -> {
+            NetworkActivity activity = NetworkActivity.of(driver);
+            return activity != null ? activity.isIdle(maxInFlight, quietMillis) : fallback.condition().test(driver);
+        });
+    }
+
+    public static PageReadiness elementsPresent(By... locators) {
+        return of("elements present", driver -> {
+            for (By locator : locators) {
+                if (driver.findElements(locator).isEmpty()) {
+                    return false;
+                }
+            }
+            return true;
+        });
+    }
+
+    public PageReadiness and(PageReadiness other) {
+        return new PageReadiness(name + " + " + other.name, start.andThen(other.start),
+            driver -> condition.test(driver) && other.condition.test(driver));
+    }
+}
@@ -1,11 +1,13 @@
 package automation.com.pages;
 
 import automation.com.config.Config;
-import automation.com.utils.JsonReader;
-import com.fasterxml.jackson.databind.JsonNode;
+import automation.com.data.ExpectedJobDetails;
+import automation.com.data.JobFilter;
+import automation.com.data.TestData;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public class QACareersPage extends BasePage {
@@ -31,10 +33,36 @@ public class QACareersPage extends BasePage {
     private static final By FIRST_JOB_ITEM = By.xpath("(//div[contains(@class, 'position-list-item') or contains(@class, 'job-item') or contains(@class, 'position-item')])[1]");
     private static final By PAGE_TITLE = By.xpath("//h1[contains(text(), 'Quality Assurance') or contains(text(), 'QA')]");
     
+    private static final String EXTRACT_JOB_CARDS_SCRIPT =
+        "var jobs = arguments[0], details = arguments[1];" +
+        "function detailText(job, locator) {" +
+        "  var node = locator[0] === 'xpath'" +
+        "    ? document.evaluate(locator[1], job, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue" +
+        "    : job.querySelector(locator[1]);" +
+        "  return node ? (node.innerText || node.textContent).trim() : null;" +
+        "}" +
+        "return jobs.map(function(job) {" +
+        "  var link = job.querySelector('a[href]');" +
+        "  return [detailText(job, details[0]), detailText(job, details[1]), detailText(job, details[2]), link ? link.href : null];" +
+        "});";
+    
     public QACareersPage() {
         super();
     }
     
+    @Override
+    protected PageReadiness readiness() {
+        return PageReadiness.domContentLoaded().and(PageReadiness.elementsPresent(SEE_ALL_QA_JOBS_BUTTON));
+    }
+    
+    // Open positions are rendered client-side after the filters load, ready once the list has settled
+    public PageReadiness jobListReadiness() {
+        return PageReadiness.domContentLoaded()
+            .and(PageReadiness.elementsPresent(LOCATION_FILTER, FIRST_JOB_ITEM))
+            .and(PageReadiness.networkIdle(Config.NETWORK_IDLE_MAX_IN_FLIGHT, Config.NETWORK_IDLE_MILLIS))
+            .and(PageReadiness.domQuiet(Config.DOM_QUIET_MILLIS));
+    }
+    
     public void navigateToQACareersPage() {
         navigateTo(Config.QA_CAREERS_URL);
         verifyPageTitle("quality assurance");
@@ -97,7 +125,7 @@ public class QACareersPage extends BasePage {
                 }
                 
                 if (clickSuccess) {
-                    waitForPageLoad(Config.PAGE_LOAD_TIMEOUT);
+                    waitUntilReady(jobListReadiness(), Config.PAGE_LOAD_TIMEOUT);
                     return true;
                 } else {
                     logger.error("See all QA jobs button click failed");
@@ -141,20 +169,89 @@ public class QACareersPage extends BasePage {
     
     
     public boolean filterJobsByLocationAndDepartment() {
+        JobFilter filterCriteria = TestData.qaJobs().filters();
+        // Try different location options that might match - prioritize exact matches from dropdown
+        String[] locationOptions = {
+            "Istanbul, Turkiye",            // Exact match from dropdown
+            "Istanbul",                     // Short form
+            "Turkey",                       // Country only
+            filterCriteria.location(),      // Original from JSON
+            "Istanbul, Turkey",             // Alternative spelling
+            "All"                           // Fallback
+        };
+        return applyFilters(filterCriteria, locationOptions);
+    }
+    
+    // Applies exactly the given combination: both options must exist with that exact visible text, there is
+    // no partial-match or fallback selection, and both dropdowns must end up showing the requested values
+    public boolean filterJobsByLocationAndDepartment(JobFilter filter) {
         try {
-            JsonNode filterCriteria = JsonReader.getQAJobsFilterCriteria();
-            if (filterCriteria == null) {
-                logger.error("Filter criteria not found in test data");
-                return false;
-            }
+            logger.info("Applying exact job filter - Location: " + filter.location() + ", Department: " + filter.department());
+            
+            boolean locationFiltered = selectExactOption(LOCATION_FILTER, filter.location());
+            boolean departmentFiltered = selectExactOption(DEPARTMENT_FILTER, filter.department());
             
-            String location = filterCriteria.get("location").asText();
-            String department = filterCriteria.get("department").asText();
+            // Wait for results to load, the filtered list may legitimately be empty
+            waitUntilReady(PageReadiness.domQuiet(Config.DOM_QUIET_MILLIS), Config.MEDIUM_WAIT);
+            
+            boolean filteringSuccess = locationFiltered && departmentFiltered;
+            logger.info("Exact job filtering completed - Location: " + locationFiltered
+                + ", Department: " + departmentFiltered);
+            return filteringSuccess;
+            
+        } catch (Exception e) {
+            logger.error("Error applying exact job filter " + filter + ": " + e.getMessage());
+            takeScreenshot("job_filtering_error");
+            return false;
+        }
+    }
+    
+    public String getSelectedLocation() {
+        return getSelectedOption(LOCATION_FILTER);
+    }
+    
+    public String getSelectedDepartment() {
+        return getSelectedOption(DEPARTMENT_FILTER);
+    }
+    
+    private String getSelectedOption(By dropdownLocator) {
+        WebElement dropdown = waitForElementVisible(dropdownLocator, Config.MEDIUM_WAIT);
+        if (dropdown == null) {
+            return null;
+        }
+        return new org.openqa.selenium.support.ui.Select(dropdown).getFirstSelectedOption().getText().trim();
+    }
+    
+    private boolean selectExactOption(By dropdownLocator, String optionText) {
+        WebElement dropdown = waitForElementVisible(dropdownLocator, Config.MEDIUM_WAIT);
+        if (dropdown == null) {
+            logger.error("Dropdown not found: " + dropdownLocator);
+            return false;
+        }
+        try {
+            new org.openqa.selenium.support.ui.Select(dropdown).selectByVisibleText(optionText);
+        } catch (org.openqa.selenium.NoSuchElementException e) {
+            logger.error("No option with exact text '" + optionText + "' in " + dropdownLocator);
+            return false;
+        }
+        String selected = getSelectedOption(dropdownLocator);
+        if (!optionText.equals(selected)) {
+            logger.error("Dropdown " + dropdownLocator + " shows '" + selected + "' instead of '" + optionText + "'");
+            return false;
+        }
+        logger.info("Selected exact option '" + optionText + "' in " + dropdownLocator);
+        return true;
+    }
+    
+    private boolean applyFilters(JobFilter filterCriteria, String[] locationOptions) {
+        try {
+            String location = filterCriteria.location();
+            String department = filterCriteria.department();
             
             logger.info("Starting job filtering - Location: " + location + ", Department: " + department);
             
             // Apply location filter
-            boolean locationFiltered = applyLocationFilter(location);
+            boolean locationFiltered = applyLocationFilter(location, locationOptions);
             if (!locationFiltered) {
                 logger.warn("Location filter failed, but continuing with department filter");
             }
@@ -165,8 +262,8 @@ public class QACareersPage extends BasePage {
                 logger.warn("Department filter failed");
             }
             
-            // Wait for results to load
-            waitForPageLoad(Config.MEDIUM_WAIT);
+            // Wait for results to load, the filtered list may legitimately be empty
+            waitUntilReady(PageReadiness.domQuiet(Config.DOM_QUIET_MILLIS), Config.MEDIUM_WAIT);
             
             boolean filteringSuccess = locationFiltered || departmentFiltered;
             logger.info("Job filtering completed - Success: " + filteringSuccess);
@@ -180,21 +277,11 @@ public class QACareersPage extends BasePage {
     }
     
     
-    private boolean applyLocationFilter(String location) {
+    private boolean applyLocationFilter(String location, String[] locationOptions) {
         try {
             logger.info("Applying location filter: " + location);
             
             if (waitForElementVisible(LOCATION_FILTER) != null) {
-                // Try different location options that might match - prioritize exact matches from dropdown
-                String[] locationOptions = {
-                    "Istanbul, Turkiye",  // Exact match from dropdown
-                    "Istanbul",           // Short form
-                    "Turkey",             // Country only
-                    location,             // Original from JSON
-                    "Istanbul, Turkey",   // Alternative spelling
-                    "All"                 // Fallback
-                };
-                
                 for (String option : locationOptions) {
                     try {
                         selectDropdownOption(LOCATION_FILTER, option);
@@ -327,21 +414,7 @@ public class QACareersPage extends BasePage {
     
     public boolean verifyJobListPresent() {
         try {
-            // Try multiple locators to find job elements
-            By[] jobLocators = {JOB_LIST, JOB_LIST_ALTERNATIVE1, JOB_LIST_ALTERNATIVE2, JOB_LIST_ALTERNATIVE3, JOB_LIST_ALTERNATIVE4};
-            List<WebElement> jobElements = null;
-            
-            for (By locator : jobLocators) {
-                try {
-                    jobElements = getElements(locator);
-                    if (jobElements != null && !jobElements.isEmpty()) {
-                        logger.info("Found job elements using locator: " + locator + " - Count: " + jobElements.size());
-                        break;
-                    }
-                } catch (Exception e) {
-                    logger.debug("Locator failed: " + locator + " - " + e.getMessage());
-                }
-            }
+            List<WebElement> jobElements = findJobElements();
             
             boolean jobListPresent = jobElements != null && !jobElements.isEmpty();
             
@@ -364,80 +437,20 @@ public class QACareersPage extends BasePage {
     
     
     public boolean verifyAllJobsContainExpectedDetails() {
+        ExpectedJobDetails expectedDetails = TestData.qaJobs().expectedJobDetails();
         try {
-            JsonNode expectedDetails = JsonReader.getExpectedJobDetails();
-            if (expectedDetails == null) {
-                logger.error("Expected job details not found in test data");
-                return false;
-            }
-            
-            String expectedPosition = expectedDetails.get("position_contains").asText();
-            String expectedDepartment = expectedDetails.get("department_contains").asText();
-            String expectedLocation = expectedDetails.get("location_contains").asText();
-            
-            logger.info("Starting job details verification - Expected Position: " + expectedPosition + 
-                       ", Department: " + expectedDepartment + ", Location: " + expectedLocation);
-            
-            // Try multiple locators to find job elements
-            By[] jobLocators = {JOB_LIST, JOB_LIST_ALTERNATIVE1, JOB_LIST_ALTERNATIVE2, JOB_LIST_ALTERNATIVE3, JOB_LIST_ALTERNATIVE4};
-            List<WebElement> jobElements = null;
+            logger.info("Starting job details verification - Expected Position: " + expectedDetails.positionContains() + 
+                       ", Department: " + expectedDetails.departmentContains() + ", Location: " + expectedDetails.locationContains());
             
-            for (By locator : jobLocators) {
-                try {
-                    jobElements = getElements(locator);
-                    if (jobElements != null && !jobElements.isEmpty()) {
-                        logger.info("Found job elements for verification using locator: " + locator + " - Count: " + jobElements.size());
-                        break;
-                    }
-                } catch (Exception e) {
-                    logger.debug("Locator failed for verification: " + locator + " - " + e.getMessage());
-                }
-            }
+            List<JobCard> jobCards = extractJobCards();
             
-            if (jobElements == null || jobElements.isEmpty()) {
+            if (jobCards.isEmpty()) {
                 logger.error("No job elements found with any locator for verification");
                 return false;
             }
             
-            logger.info("Found " + jobElements.size() + " job elements to verify");
-            boolean allJobsValid = true;
-            
-            for (int i = 0; i < jobElements.size(); i++) {
-                WebElement jobElement = jobElements.get(i);
-                
-                // Get job details
-                String position = getJobDetail(jobElement, JOB_POSITION);
-                String department = getJobDetail(jobElement, JOB_DEPARTMENT);
-                String location = getJobDetail(jobElement, JOB_LOCATION);
-                
-                logger.info("Job " + (i + 1) + " details - Position: '" + position + 
-                           "', Department: '" + department + "', Location: '" + location + "'");
-                
-                // Verify position contains expected text
-                boolean positionValid = position != null && position.contains(expectedPosition);
-                
-                // Verify department contains expected text
-                boolean departmentValid = department != null && department.contains(expectedDepartment);
-                
-                // Verify location contains expected text (flexible matching for Istanbul variations)
-                boolean locationValid = location != null && 
-                    (location.contains(expectedLocation) || 
-                     location.contains("Istanbul, Turkiye") || 
-                     location.contains("Istanbul"));
-                
-                if (!positionValid || !departmentValid || !locationValid) {
-                    logger.warn("Job " + (i + 1) + " validation failed - Position: " + positionValid + 
-                               " (expected: " + expectedPosition + "), Department: " + departmentValid + 
-                               " (expected: " + expectedDepartment + "), Location: " + locationValid + 
-                               " (expected: " + expectedLocation + ")");
-                    allJobsValid = false;
-                } else {
-                    logger.info("Job " + (i + 1) + " validation PASSED - All criteria met");
-                }
-            }
-            
-            logger.info("All jobs validation completed. All jobs valid: " + allJobsValid);
-            return allJobsValid;
+            logger.info("Found " + jobCards.size() + " job elements to verify");
+            return verifyJobCards(jobCards, expectedDetails);
             
         } catch (Exception e) {
             logger.error("Error verifying job details: " + e.getMessage());
@@ -446,6 +459,82 @@ public class QACareersPage extends BasePage {
         }
     }
     
+    // Browser-independent part of the verification, shared with the JMH benchmark
+    public static boolean verifyJobCards(List<JobCard> jobCards, ExpectedJobDetails expectedDetails) {
+        String expectedPosition = expectedDetails.positionContains();
+        String expectedDepartment = expectedDetails.departmentContains();
+        String expectedLocation = expectedDetails.locationContains();
+        boolean allJobsValid = true;
+        
+        for (int i = 0; i < jobCards.size(); i++) {
+            JobCard jobCard = jobCards.get(i);
+            
+            logger.info("Job " + (i + 1) + " details - Position: '" + jobCard.position() + 
+                       "', Department: '" + jobCard.department() + "', Location: '" + jobCard.location() + "'");
+            
+            boolean positionValid = jobCard.positionContains(expectedPosition);
+            boolean departmentValid = jobCard.departmentContains(expectedDepartment);
+            boolean locationValid = jobCard.locationContains(expectedLocation);
+            
+            if (!positionValid || !departmentValid || !locationValid) {
+                logger.warn("Job " + (i + 1) + " validation failed - Position: " + positionValid + 
+                           " (expected: " + expectedPosition + "), Department: " + departmentValid + 
+                           " (expected: " + expectedDepartment + "), Location: " + locationValid + 
+                           " (expected: " + expectedLocation + ")");
+                allJobsValid = false;
+            } else {
+                logger.info("Job " + (i + 1) + " validation PASSED - All criteria met");
+            }
+        }
+        
+        logger.info("All jobs validation completed. All jobs valid: " + allJobsValid);
+        return allJobsValid;
+    }
+    
+    
+    public List<JobCard> extractJobCards() {
+        List<WebElement> jobElements = findJobElements();
+        if (jobElements == null || jobElements.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        List<List<Object>> detailLocators = toScriptLocators(JOB_POSITION, JOB_DEPARTMENT, JOB_LOCATION);
+        if (detailLocators != null) {
+            try {
+                List<?> rows = (List<?>) ((org.openqa.selenium.JavascriptExecutor) driver)
+                    .executeScript(EXTRACT_JOB_CARDS_SCRIPT, jobElements, detailLocators);
+                List<JobCard> jobCards = new ArrayList<>(rows.size());
+                for (Object row : rows) {
+                    List<?> values = (List<?>) row;
+                    jobCards.add(new JobCard((String) values.get(0), (String) values.get(1),
+                        (String) values.get(2), (String) values.get(3)));
+                }
+                logger.info("Extracted " + jobCards.size() + " job cards with a single script call");
+                return jobCards;
+            } catch (Exception e) {
+                logger.warn("Bulk job card extraction failed, falling back to per-element lookups: " + e.getMessage());
+            }
+        }
+        
+        List<JobCard> jobCards = new ArrayList<>(jobElements.size());
+        for (WebElement jobElement : jobElements) {
+            jobCards.add(new JobCard(
+                getJobDetail(jobElement, JOB_POSITION),
+                getJobDetail(jobElement, JOB_DEPARTMENT),
+                getJobDetail(jobElement, JOB_LOCATION),
+                getJobLink(jobElement)));
+        }
+        logger.info("Extracted " + jobCards.size() + " job cards with per-element lookups");
+        return jobCards;
+    }
+    
+    
+    private List<WebElement> findJobElements() {
+        LocatorMatch jobMatch = findFirstMatch("jobList", Config.MEDIUM_WAIT, false,
+            JOB_LIST, JOB_LIST_ALTERNATIVE1, JOB_LIST_ALTERNATIVE2, JOB_LIST_ALTERNATIVE3, JOB_LIST_ALTERNATIVE4);
+        return jobMatch != null ? jobMatch.elements() : null;
+    }
+    
     
     private String getJobDetail(WebElement jobElement, By detailLocator) {
         try {
@@ -458,6 +547,12 @@ public class QACareersPage extends BasePage {
     }
     
     
+    private String getJobLink(WebElement jobElement) {
+        List<WebElement> links = jobElement.findElements(By.cssSelector("a[href]"));
+        return links.isEmpty() ? null : links.get(0).getAttribute("href");
+    }
+    
+    
     public boolean clickFirstViewRoleButton() {
         try {
             logger.info("Looking for first job item and View Role button");
@@ -475,23 +570,11 @@ public class QACareersPage extends BasePage {
                 org.openqa.selenium.interactions.Actions actions = new org.openqa.selenium.interactions.Actions(driver);
                 actions.moveToElement(firstJobItem).perform();
                 logger.info("Hovered over first job item");
-                waitForElementVisible(VIEW_ROLE_BUTTON, Config.SHORT_WAIT);
                 
                 // Now look for the View Role button using multiple locators
-                By[] viewRoleLocators = {VIEW_ROLE_BUTTON, VIEW_ROLE_BUTTON_ALTERNATIVE1, VIEW_ROLE_BUTTON_ALTERNATIVE2, VIEW_ROLE_BUTTON_ALTERNATIVE3};
-                WebElement viewRoleButton = null;
-                
-                for (By locator : viewRoleLocators) {
-                    try {
-                        if (waitForElementVisible(locator) != null) {
-                            viewRoleButton = driver.findElement(locator);
-                            logger.info("Found View Role button using locator: " + locator);
-                            break;
-                        }
-                    } catch (Exception e) {
-                        logger.debug("View Role button not found with locator: " + locator);
-                    }
-                }
+                LocatorMatch viewRoleMatch = findFirstMatch("viewRoleButton", Config.EXPLICIT_WAIT, true,
+                    VIEW_ROLE_BUTTON, VIEW_ROLE_BUTTON_ALTERNATIVE1, VIEW_ROLE_BUTTON_ALTERNATIVE2, VIEW_ROLE_BUTTON_ALTERNATIVE3);
+                WebElement viewRoleButton = viewRoleMatch != null ? viewRoleMatch.element() : null;
                 
                 if (viewRoleButton != null) {
                     
@@ -561,7 +644,9 @@ public class QACareersPage extends BasePage {
                         }
                         
                         // Wait for new tab/window to open
-                        waitForPageLoad(Config.MEDIUM_WAIT);
+                        waitUntilReady(PageReadiness.of("Lever posting opened", webDriver ->
+                            webDriver.getWindowHandles().size() > 1 || webDriver.getCurrentUrl().contains("lever")),
+                            Config.MEDIUM_WAIT);
                     return true;
                     } else {
                         // Restore navbar even if click failed
@@ -610,7 +695,7 @@ public class QACareersPage extends BasePage {
             }
             
             // Wait for page to load
-            waitForPageLoad(Config.PAGE_LOAD_TIMEOUT);
+            waitUntilReady(PageReadiness.domContentLoaded(), Config.PAGE_LOAD_TIMEOUT);
             
             String currentUrl = driver.getCurrentUrl();
             logger.info("Current URL after View Role click: " + currentUrl);
@@ -636,21 +721,7 @@ public class QACareersPage extends BasePage {
     
     public int getNumberOfJobs() {
         try {
-            // Try multiple locators to find job elements
-            By[] jobLocators = {JOB_LIST, JOB_LIST_ALTERNATIVE1, JOB_LIST_ALTERNATIVE2, JOB_LIST_ALTERNATIVE3, JOB_LIST_ALTERNATIVE4};
-            List<WebElement> jobElements = null;
-            
-            for (By locator : jobLocators) {
-                try {
-                    jobElements = getElements(locator);
-                    if (jobElements != null && !jobElements.isEmpty()) {
-                        logger.info("Found jobs using locator: " + locator + " - Count: " + jobElements.size());
-                        break;
-                    }
-                } catch (Exception e) {
-                    logger.debug("Locator failed for job count: " + locator + " - " + e.getMessage());
-                }
-            }
+            List<WebElement> jobElements = findJobElements();
             
             int jobCount = jobElements != null ? jobElements.size() : 0;
             logger.info("Number of jobs found: " + jobCount);
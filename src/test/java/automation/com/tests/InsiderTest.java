@@ -5,6 +5,7 @@ import automation.com.pages.CareersPage;
 import automation.com.pages.HomePage;
 import automation.com.pages.QACareersPage;
 import automation.com.utils.BrowserManager;
+import automation.com.utils.BrowserProfile;
 import automation.com.utils.ScreenshotUtil;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -22,15 +23,16 @@ public class InsiderTest {
     private String browserType;
 
     @BeforeClass
-    @Parameters("browser")
-    public void setUpClass(@Optional("") String browser) {
+    @Parameters({"browser", "profile"})
+    public void setUpClass(@Optional("") String browser, @Optional("") String profile) {
         if (browser == null || browser.isEmpty()) {
             browser = Config.DEFAULT_BROWSER;
         }
+        profile = BrowserProfile.resolveName(profile);
         this.browserType = browser;
-        logger.info("Starting test execution with browser: " + browser);
+        logger.info("Starting test execution with browser: " + browser + ", profile: " + profile);
 
-        BrowserManager.initializeDriver(browser);
+        BrowserManager.initializeDriver(browser, profile);
 
         homePage = new HomePage();
         careersPage = new CareersPage();
@@ -39,8 +41,8 @@ public class InsiderTest {
 
     @AfterClass
     public void tearDownClass() {
-        logger.info("Test execution completed. Closing browser.");
-        BrowserManager.quitDriver();
+        logger.info("Test execution completed. Returning browser to pool.");
+        BrowserManager.releaseDriver();
     }
 
     @BeforeMethod
@@ -185,8 +187,6 @@ public class InsiderTest {
             boolean seeAllQAJobsClicked = qaCareersPage.clickSeeAllQAJobsButton();
             Assert.assertTrue(seeAllQAJobsClicked, "Failed to click 'See all QA jobs' button");
 
-            qaCareersPage.waitForPageLoad();
-
             logger.info("Step 3: Filtering jobs by Location: 'Istanbul, Turkey' and Department: 'Quality Assurance'");
 
             qaCareersPage.debugDropdownOptions();
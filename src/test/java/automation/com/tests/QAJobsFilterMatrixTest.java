@@ -0,0 +1,107 @@
+package automation.com.tests;
+
+import automation.com.config.Config;
+import automation.com.data.FilterCase;
+import automation.com.data.FilterMatrix;
+import automation.com.pages.HomePage;
+import automation.com.pages.JobCard;
+import automation.com.pages.QACareersPage;
+import automation.com.utils.BrowserManager;
+import automation.com.utils.BrowserProfile;
+import automation.com.utils.ScreenshotUtil;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.Assert;
+import org.testng.ITestResult;
+import org.testng.annotations.*;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class QAJobsFilterMatrixTest {
+
+    private static final Logger logger = LogManager.getLogger(QAJobsFilterMatrixTest.class);
+    private static final String SESSION_STATE = "consented-home";
+    private String browserType;
+    private String profile;
+    private Iterator<Object[]> filterCases;
+
+    @BeforeClass
+    @Parameters({"browser", "profile"})
+    public void setUpClass(@Optional("") String browser, @Optional("") String profile) {
+        this.browserType = browser == null || browser.isEmpty() ? Config.DEFAULT_BROWSER : browser;
+        this.profile = BrowserProfile.resolveName(profile);
+        logger.info("Starting filter matrix with browser: " + browserType + ", profile: " + this.profile
+            + ", mode: " + Config.FILTER_MATRIX_MODE);
+    }
+
+    // Every combination leases its own pooled session, so invocations can run on any worker thread
+    @BeforeMethod
+    public void setUpMethod() {
+        BrowserManager.initializeDriver(browserType, profile);
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void tearDownMethod(ITestResult result) {
+        if (result.getStatus() == ITestResult.FAILURE) {
+            logger.error("Filter combination failed: " + Arrays.toString(result.getParameters()));
+            ScreenshotUtil.takeScreenshotForFailedTest(BrowserManager.getDriver(), result);
+        }
+        BrowserManager.releaseDriver();
+    }
+
+    // Closes the streaming parser even when a skip or suite abort leaves the iterator unfinished
+    @AfterClass(alwaysRun = true)
+    public void tearDownClass() throws Exception {
+        if (filterCases instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    @DataProvider(name = "filterMatrix", parallel = true)
+    public Iterator<Object[]> filterMatrix() {
+        filterCases = FilterMatrix.cases(Config.FILTER_MATRIX_MODE);
+        return filterCases;
+    }
+
+    @Test(dataProvider = "filterMatrix", description = "Filter open positions by a location/department combination and verify every listed job matches it")
+    public void testFilterCombination(FilterCase filterCase) {
+        logger.info("=== Filter combination: " + filterCase + " ===");
+
+        BrowserManager.startFromSessionState(SESSION_STATE, driver -> new HomePage().navigateToHomePage(),
+            Config.OPEN_POSITIONS_URL);
+        QACareersPage qaCareersPage = new QACareersPage();
+        qaCareersPage.waitUntilReady(qaCareersPage.jobListReadiness(), Config.PAGE_LOAD_TIMEOUT);
+
+        // The unfiltered list is the oracle: filtering must show exactly the jobs of it that match the combination,
+        // so an emptied or unchanged list fails even for generated cases without an expected count
+        List<JobCard> unfilteredCards = qaCareersPage.extractJobCards();
+        Assert.assertFalse(unfilteredCards.isEmpty(), "No open positions listed before filtering");
+
+        boolean filterApplied = qaCareersPage.filterJobsByLocationAndDepartment(filterCase.filter());
+        Assert.assertTrue(filterApplied, "Could not apply filter " + filterCase.filter());
+        Assert.assertEquals(qaCareersPage.getSelectedLocation(), filterCase.location(), "Location dropdown does not show the selected value");
+        Assert.assertEquals(qaCareersPage.getSelectedDepartment(), filterCase.department(), "Department dropdown does not show the selected value");
+
+        List<JobCard> jobCards = qaCareersPage.extractJobCards();
+        Assert.assertTrue(jobCards.size() >= filterCase.minJobs(),
+            "Expected at least " + filterCase.minJobs() + " job(s) for " + filterCase.filter() + " but found " + jobCards.size());
+
+        Set<JobCard> expectedCards = unfilteredCards.stream()
+            .filter(jobCard -> jobCard.matchesFilter(filterCase.filter()))
+            .collect(Collectors.toSet());
+        Assert.assertEquals(new HashSet<>(jobCards), expectedCards,
+            "Filtered jobs for " + filterCase.filter() + " differ from the matching jobs of the unfiltered list");
+
+        for (JobCard jobCard : jobCards) {
+            Assert.assertTrue(jobCard.matchesFilter(filterCase.filter()),
+                "Job '" + jobCard.position() + "' (" + jobCard.department() + ", " + jobCard.location()
+                    + ") does not match filter " + filterCase.filter());
+        }
+        logger.info("Filter combination " + filterCase.filter() + " PASSED with " + jobCards.size() + " job(s)");
+    }
+}
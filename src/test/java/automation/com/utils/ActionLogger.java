@@ -0,0 +1,34 @@
+package automation.com.utils;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.util.Unbox;
+
+import java.util.concurrent.TimeUnit;
+
+public class ActionLogger {
+
+    private static final Logger logger = LogManager.getLogger("automation.com.actions");
+
+    public enum Outcome {
+        SUCCESS,
+        RECOVERED,
+        FAILED
+    }
+
+    public static long start() {
+        return System.nanoTime();
+    }
+
+    public static void log(String action, Object element, long startNanos, Outcome outcome) {
+        TraceRecorder.end("action", action, startNanos, element);
+        // Failures are logged at WARN, so they must not be dropped when only INFO is off
+        Level level = outcome == Outcome.FAILED ? Level.WARN : Level.INFO;
+        if (!logger.isEnabled(level)) {
+            return;
+        }
+        long durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        logger.log(level, "action={} element={} durationMs={} outcome={}", action, element, Unbox.box(durationMillis), outcome);
+    }
+}
@@ -1,7 +1,6 @@
 package automation.com.utils;
 
 import automation.com.config.Config;
-import io.github.bonigarcia.wdm.WebDriverManager;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.WebDriver;
@@ -9,39 +8,44 @@ import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
-import org.openqa.selenium.remote.DesiredCapabilities;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 public class BrowserManager {
     
     private static final Logger logger = LogManager.getLogger(BrowserManager.class);
-    private static WebDriver driver;
+    private static final ThreadLocal<WebDriver> driver = new ThreadLocal<>();
+    private static final ThreadLocal<String> driverBrowserType = new ThreadLocal<>();
+    private static final ThreadLocal<BrowserProfile> driverProfile = new ThreadLocal<>();
+    private static final Map<String, Boolean> resolvedDriverBinaries = new ConcurrentHashMap<>();
+    private static final Map<String, CompletableFuture<SessionState>> sessionStates = new ConcurrentHashMap<>();
     
     public static WebDriver initializeDriver(String browserType) {
+        return initializeDriver(browserType, Config.BROWSER_PROFILE);
+    }
+    
+    public static WebDriver initializeDriver(String browserType, String profileName) {
         try {
-            if (driver != null) {
-                driver.quit();
+            if (driver.get() != null) {
+                releaseDriver();
             }
             
-            switch (browserType.toLowerCase()) {
-                case "chrome":
-                    driver = initializeChromeDriver();
-                    break;
-                case "firefox":
-                    driver = initializeFirefoxDriver();
-                    break;
-                default:
-                    logger.warn("Unsupported browser type: " + browserType + ". Using Chrome as default.");
-                    driver = initializeChromeDriver();
-                    break;
-            }
-            
-            driver.manage().timeouts().implicitlyWait(java.time.Duration.ofSeconds(Config.IMPLICIT_WAIT));
-            driver.manage().timeouts().pageLoadTimeout(java.time.Duration.ofSeconds(Config.PAGE_LOAD_TIMEOUT));
-            
-            driver.manage().window().maximize();
+            String normalizedBrowserType = normalizeBrowserType(browserType);
+            BrowserProfile profile = BrowserProfile.fromName(profileName);
+            WebDriver pooledDriver = DriverPool.acquire(normalizedBrowserType, profile);
+            CookieConsent.preSeed(pooledDriver);
+            driver.set(pooledDriver);
+            driverBrowserType.set(normalizedBrowserType);
+            driverProfile.set(profile);
             
-            logger.info("WebDriver initialized successfully for browser: " + browserType);
-            return driver;
+            logger.info("WebDriver initialized successfully for browser: " + normalizedBrowserType
+                + " with profile: " + profile);
+            return pooledDriver;
             
         } catch (Exception e) {
             logger.error("Error initializing WebDriver: " + e.getMessage());
@@ -49,8 +53,65 @@ public class BrowserManager {
         }
     }
     
-    private static WebDriver initializeChromeDriver() {
-        WebDriverManager.chromedriver().setup();
+    public static void warmUpAsync(String browserType, String profileName, int count) {
+        DriverPool.warmUpAsync(normalizeBrowserType(browserType), BrowserProfile.fromName(profileName), count);
+    }
+    
+    static WebDriver createDriver(String browserType, BrowserProfile profile) {
+        resolveDriverBinary(browserType);
+        
+        WebDriver newDriver;
+        switch (browserType) {
+            case "firefox":
+                newDriver = initializeFirefoxDriver(profile);
+                break;
+            default:
+                newDriver = initializeChromeDriver(profile);
+                break;
+        }
+        
+        newDriver.manage().timeouts().implicitlyWait(java.time.Duration.ofSeconds(Config.IMPLICIT_WAIT));
+        newDriver.manage().timeouts().pageLoadTimeout(java.time.Duration.ofSeconds(Config.PAGE_LOAD_TIMEOUT));
+        newDriver.manage().timeouts().scriptTimeout(java.time.Duration.ofSeconds(Config.SCRIPT_TIMEOUT));
+        
+        if (!profile.hasFixedWindowSize()) {
+            newDriver.manage().window().maximize();
+        }
+        
+        TrafficArchive.attach(newDriver);
+        NetworkBlocker.attach(newDriver);
+        
+        // Page objects look the tracker up by the driver they hold, which is the decorated one
+        WebDriver decoratedDriver = CommandStats.decorate(newDriver);
+        NetworkActivity.attach(decoratedDriver);
+        return decoratedDriver;
+    }
+    
+    private static void resolveDriverBinary(String browserType) {
+        resolvedDriverBinaries.computeIfAbsent(browserType, type -> {
+            long startTime = System.nanoTime();
+            DriverBinaryCache.resolve(type);
+            long elapsed = System.nanoTime() - startTime;
+            StartupStats.recordBinaryResolution(elapsed);
+            logger.info("Resolved " + type + " driver binary in "
+                + java.util.concurrent.TimeUnit.NANOSECONDS.toMillis(elapsed) + " ms");
+            return Boolean.TRUE;
+        });
+    }
+    
+    private static String normalizeBrowserType(String browserType) {
+        switch (browserType.toLowerCase()) {
+            case "chrome":
+                return "chrome";
+            case "firefox":
+                return "firefox";
+            default:
+                logger.warn("Unsupported browser type: " + browserType + ". Using Chrome as default.");
+                return "chrome";
+        }
+    }
+    
+    private static WebDriver initializeChromeDriver(BrowserProfile profile) {
         ChromeOptions options = new ChromeOptions();
         options.addArguments("--disable-notifications");
         options.addArguments("--disable-popup-blocking");
@@ -58,42 +119,109 @@ public class BrowserManager {
         options.addArguments("--no-sandbox");
         options.addArguments("--disable-dev-shm-usage");
         options.addArguments("--remote-allow-origins=*");
+        profile.applyTo(options);
         
         return new ChromeDriver(options);
     }
     
-    private static WebDriver initializeFirefoxDriver() {
-        WebDriverManager.firefoxdriver().setup();
+    private static WebDriver initializeFirefoxDriver(BrowserProfile profile) {
         FirefoxOptions options = new FirefoxOptions();
         options.addPreference("dom.webnotifications.enabled", false);
         options.addPreference("dom.push.enabled", false);
+        profile.applyTo(options);
         
         return new FirefoxDriver(options);
     }
     
     public static WebDriver getDriver() {
-        if (driver == null) {
+        if (driver.get() == null) {
             logger.warn("WebDriver is null. Initializing with default browser: " + Config.DEFAULT_BROWSER);
             return initializeDriver(Config.DEFAULT_BROWSER);
         }
-        return driver;
+        return driver.get();
+    }
+    
+    public static void releaseDriver() {
+        WebDriver currentDriver = driver.get();
+        if (currentDriver != null) {
+            try {
+                CookieConsent.clear(currentDriver);
+                DriverPool.release(currentDriver, driverBrowserType.get(), driverProfile.get());
+                logger.info("WebDriver released to pool successfully");
+            } catch (Exception e) {
+                logger.error("Error releasing WebDriver: " + e.getMessage());
+            } finally {
+                driver.remove();
+                driverBrowserType.remove();
+                driverProfile.remove();
+            }
+        }
     }
     
     public static void quitDriver() {
-        if (driver != null) {
+        WebDriver currentDriver = driver.get();
+        if (currentDriver != null) {
             try {
-                driver.quit();
+                CookieConsent.clear(currentDriver);
+                DriverPool.destroy(currentDriver);
                 logger.info("WebDriver quit successfully");
             } catch (Exception e) {
                 logger.error("Error quitting WebDriver: " + e.getMessage());
             } finally {
-                driver = null;
+                driver.remove();
+                driverBrowserType.remove();
+                driverProfile.remove();
             }
         }
     }
     
+    // Runs the setup flow once per JVM on the current driver and keeps the resulting cookies/localStorage.
+    // The first caller claims the name with a pending future and runs the setup outside the map; concurrent
+    // callers wait for that future. A failed setup is not cached, so the next caller retries it.
+    public static SessionState prepareSessionState(String name, Consumer<WebDriver> setup) {
+        CompletableFuture<SessionState> pending = new CompletableFuture<>();
+        CompletableFuture<SessionState> existing = sessionStates.putIfAbsent(name, pending);
+        if (existing != null) {
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                throw new RuntimeException("Failed to prepare session state '" + name + "'", e.getCause());
+            }
+        }
+        
+        try {
+            long startTime = System.nanoTime();
+            WebDriver currentDriver = getDriver();
+            setup.accept(currentDriver);
+            SessionState state = SessionState.capture(currentDriver);
+            logger.info("Prepared session state '" + name + "' in "
+                + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime) + " ms");
+            pending.complete(state);
+            return state;
+        } catch (RuntimeException | Error e) {
+            sessionStates.remove(name, pending);
+            pending.completeExceptionally(e);
+            throw e;
+        }
+    }
+    
+    public static WebDriver startFromSessionState(String name, Consumer<WebDriver> setup, String url) {
+        WebDriver currentDriver = getDriver();
+        boolean[] preparedHere = {false};
+        SessionState state = prepareSessionState(name, webDriver -> {
+            preparedHere[0] = true;
+            setup.accept(webDriver);
+        });
+        
+        if (preparedHere[0]) {
+            currentDriver.get(url);
+        } else {
+            state.restore(currentDriver, url);
+        }
+        return currentDriver;
+    }
+    
     public static boolean isDriverInitialized() {
-        return driver != null;
+        return driver.get() != null;
     }
 }
-
@@ -0,0 +1,122 @@
+package automation.com.utils;
+
+import automation.com.config.Config;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.firefox.FirefoxOptions;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public enum BrowserProfile {
+
+    DEFAULT("default", false, false, false, 0, 0, 0),
+    HEADLESS_LEAN("headless-lean", true, true, true, 1366, 768, 2),
+    HEADLESS_FULL("headless-full", true, false, false, 1920, 1080, 0),
+    HEADED_DEBUG("headed-debug", false, false, false, 1920, 1080, 0);
+
+    private static final Logger logger = LogManager.getLogger(BrowserProfile.class);
+
+    private final String name;
+    private final boolean headless;
+    private final boolean blockImages;
+    private final boolean blockFonts;
+    private final int windowWidth;
+    private final int windowHeight;
+    private final int rendererProcessLimit;
+
+    BrowserProfile(String name, boolean headless, boolean blockImages, boolean blockFonts,
+                   int windowWidth, int windowHeight, int rendererProcessLimit) {
+        this.name = name;
+        this.headless = headless;
+        this.blockImages = blockImages;
+        this.blockFonts = blockFonts;
+        this.windowWidth = windowWidth;
+        this.windowHeight = windowHeight;
+        this.rendererProcessLimit = rendererProcessLimit;
+    }
+
+    // -Dbrowser.profile wins over a suite <parameter name="profile">, which wins over the default profile
+    public static String resolveName(String suiteParameter) {
+        String property = System.getProperty("browser.profile");
+        if (property != null && !property.isEmpty()) {
+            return property;
+        }
+        return suiteParameter == null || suiteParameter.isEmpty() ? Config.BROWSER_PROFILE : suiteParameter;
+    }
+
+    public static BrowserProfile fromName(String profileName) {
+        if (profileName == null || profileName.isEmpty()) {
+            return DEFAULT;
+        }
+        for (BrowserProfile profile : values()) {
+            if (profile.name.equalsIgnoreCase(profileName)) {
+                return profile;
+            }
+        }
+        logger.warn("Unknown browser profile: " + profileName + ". Using default profile.");
+        return DEFAULT;
+    }
+
+    public void applyTo(ChromeOptions options) {
+        if (headless) {
+            options.addArguments("--headless=new");
+        }
+        if (hasFixedWindowSize()) {
+            options.addArguments("--window-size=" + windowWidth + "," + windowHeight);
+        }
+        if (blockImages) {
+            Map<String, Object> prefs = new HashMap<>();
+            prefs.put("profile.managed_default_content_settings.images", 2);
+            options.setExperimentalOption("prefs", prefs);
+            options.addArguments("--blink-settings=imagesEnabled=false");
+        }
+        if (blockFonts) {
+            options.addArguments("--disable-remote-fonts");
+        }
+        if (rendererProcessLimit > 0) {
+            options.addArguments("--renderer-process-limit=" + rendererProcessLimit);
+        }
+    }
+
+    public void applyTo(FirefoxOptions options) {
+        if (headless) {
+            options.addArguments("-headless");
+        }
+        if (hasFixedWindowSize()) {
+            options.addArguments("--width=" + windowWidth);
+            options.addArguments("--height=" + windowHeight);
+        }
+        if (blockImages) {
+            options.addPreference("permissions.default.image", 2);
+        }
+        if (blockFonts) {
+            options.addPreference("gfx.downloadable_fonts.enabled", false);
+        }
+        if (rendererProcessLimit > 0) {
+            options.addPreference("dom.ipc.processCount", rendererProcessLimit);
+        }
+    }
+
+    public boolean hasFixedWindowSize() {
+        return windowWidth > 0 && windowHeight > 0;
+    }
+
+    public int getWindowWidth() {
+        return windowWidth;
+    }
+
+    public int getWindowHeight() {
+        return windowHeight;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,160 @@
+package automation.com.utils;
+
+import automation.com.config.Config;
+import automation.com.pages.BasePage;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// Times every WebDriver/WebElement command and buckets it by command and the page-object method that issued it
+public class CommandStats {
+
+    private static final Logger logger = LogManager.getLogger(CommandStats.class);
+    private static final String TESTS_PACKAGE = "automation.com.tests.";
+    private static final int MAX_NESTING = 16;
+    private static final int REPORT_LIMIT = 40;
+    private static final StackWalker stackWalker = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+    private static final Map<String, Map<String, LatencyHistogram>> histograms = new ConcurrentHashMap<>();
+    private static final ThreadLocal<long[]> startTimes = ThreadLocal.withInitial(() -> new long[MAX_NESTING + 1]);
+
+    public static WebDriver decorate(WebDriver driver) {
+        if (!Config.COMMAND_STATS_ENABLED) {
+            return driver;
+        }
+        return new EventFiringDecorator<>(new TimingListener()).decorate(driver);
+    }
+
+    public static void record(String command, String caller, long nanos) {
+        histograms.computeIfAbsent(command, key -> new ConcurrentHashMap<>())
+            .computeIfAbsent(caller, key -> new LatencyHistogram())
+            .record(nanos);
+    }
+
+    // Innermost page-object frame below BasePage wins, so "QACareersPage.extractJobCards" is reported
+    // rather than the BasePage helper it went through. Only BasePage subclasses count as page objects;
+    // helpers such as EventWait, PageReadiness or JobCard are skipped in favour of the page that called them.
+    static String resolveCaller() {
+        return stackWalker.walk(frames -> {
+            String basePageFrame = null;
+            String testFrame = null;
+            for (StackWalker.StackFrame frame : (Iterable<StackWalker.StackFrame>) frames::iterator) {
+                Class<?> declaringClass = frame.getDeclaringClass();
+                if (BasePage.class.isAssignableFrom(declaringClass)) {
+                    if (declaringClass != BasePage.class) {
+                        return simpleName(frame.getClassName()) + "." + frame.getMethodName();
+                    }
+                    if (basePageFrame == null) {
+                        basePageFrame = "BasePage." + frame.getMethodName();
+                    }
+                } else if (testFrame == null && frame.getClassName().startsWith(TESTS_PACKAGE)) {
+                    testFrame = simpleName(frame.getClassName()) + "." + frame.getMethodName();
+                }
+            }
+            if (basePageFrame != null) {
+                return basePageFrame;
+            }
+            return testFrame != null ? testFrame : "(framework)";
+        });
+    }
+
+    public static void logReport() {
+        if (histograms.isEmpty()) {
+            return;
+        }
+
+        List<String[]> keys = new ArrayList<>();
+        histograms.forEach((command, byCaller) -> byCaller.keySet().forEach(caller -> keys.add(new String[] {command, caller})));
+        keys.sort(Comparator.comparingLong((String[] key) -> histograms.get(key[0]).get(key[1]).getTotalNanos()).reversed());
+
+        logger.info("=== WEBDRIVER COMMAND LATENCY REPORT ===");
+        for (Map.Entry<String, Map<String, LatencyHistogram>> entry : histograms.entrySet()) {
+            long count = 0;
+            long totalNanos = 0;
+            for (LatencyHistogram histogram : entry.getValue().values()) {
+                count += histogram.getCount();
+                totalNanos += histogram.getTotalNanos();
+            }
+            logger.info("  " + entry.getKey() + ": " + count + " call(s), " + TimeUnit.NANOSECONDS.toMillis(totalNanos) + " ms total");
+        }
+        logger.info("Slowest command/caller pairs by total time (p50 / p90 / p99 / max in ms):");
+        for (int i = 0; i < Math.min(REPORT_LIMIT, keys.size()); i++) {
+            String[] key = keys.get(i);
+            LatencyHistogram histogram = histograms.get(key[0]).get(key[1]);
+            logger.info("  " + TimeUnit.NANOSECONDS.toMillis(histogram.getTotalNanos()) + " ms total"
+                + " | count: " + histogram.getCount()
+                + " | " + millis(histogram.percentileNanos(50))
+                + " / " + millis(histogram.percentileNanos(90))
+                + " / " + millis(histogram.percentileNanos(99))
+                + " / " + millis(histogram.getMaxNanos())
+                + " | " + key[0] + " <- " + key[1]);
+        }
+        logger.info("=== END WEBDRIVER COMMAND LATENCY REPORT ===");
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.1f", nanos / 1_000_000.0);
+    }
+
+    private static String simpleName(String className) {
+        String name = className.substring(className.lastIndexOf('.') + 1);
+        int nested = name.indexOf('$');
+        return nested >= 0 ? name.substring(0, nested) : name;
+    }
+
+    private static class TimingListener implements WebDriverListener {
+
+        @Override
+        public void beforeAnyCall(Object target, Method method, Object[] args) {
+            long[] stack = startTimes.get();
+            stack[Math.min(depth(stack, 1), MAX_NESTING - 1)] = System.nanoTime();
+        }
+
+        @Override
+        public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+            finish(target, method);
+        }
+
+        @Override
+        public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+            finish(target, method);
+        }
+
+        private void finish(Object target, Method method) {
+            long end = System.nanoTime();
+            long[] stack = startTimes.get();
+            int level = depth(stack, -1);
+            if (level < 0 || method.getDeclaringClass() == Object.class) {
+                return;
+            }
+            String command = target instanceof WebElement ? "element." + method.getName() : method.getName();
+            record(command, resolveCaller(), end - stack[Math.min(level, MAX_NESTING - 1)]);
+        }
+
+        // The nesting depth lives in the last slot of the per-thread array: returns the level of the call
+        // being entered (delta 1) or the one being left (delta -1)
+        private static int depth(long[] stack, int delta) {
+            int current = (int) stack[MAX_NESTING];
+            if (delta > 0) {
+                stack[MAX_NESTING] = current + 1;
+                return current;
+            }
+            if (current == 0) {
+                return -1;
+            }
+            stack[MAX_NESTING] = current - 1;
+            return current - 1;
+        }
+    }
+}
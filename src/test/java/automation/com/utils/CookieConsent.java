@@ -0,0 +1,53 @@
+package automation.com.utils;
+
+import automation.com.config.Config;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.DevTools;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+// Remembers per driver lease whether the cookie banner has been dealt with, and pre-seeds the consent
+// cookies through CDP so the banner never renders on Chrome
+public class CookieConsent {
+
+    private static final Logger logger = LogManager.getLogger(CookieConsent.class);
+    public static final String CONSENT_COOKIE = "viewed_cookie_policy";
+    private static final String[] CONSENT_COOKIES = {CONSENT_COOKIE, "cookielawinfo-checkbox-necessary"};
+    private static final Set<WebDriver> accepted = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    public static void preSeed(WebDriver driver) {
+        if (!Config.COOKIE_CONSENT_PRESEED) {
+            return;
+        }
+        DevTools devTools = DevToolsSupport.open(driver);
+        if (devTools == null) {
+            return;
+        }
+        try {
+            for (String name : CONSENT_COOKIES) {
+                DevToolsSupport.send(devTools, "Network.setCookie",
+                    Map.of("name", name, "value", "yes", "url", Config.BASE_URL, "path", "/"));
+            }
+            logger.debug("Pre-seeded cookie consent for " + Config.BASE_HOST);
+        } catch (Exception e) {
+            logger.warn("Could not pre-seed cookie consent: " + e.getMessage());
+        }
+    }
+
+    public static boolean isAccepted(WebDriver driver) {
+        return accepted.contains(driver);
+    }
+
+    public static void markAccepted(WebDriver driver) {
+        accepted.add(driver);
+    }
+
+    public static void clear(WebDriver driver) {
+        accepted.remove(driver);
+    }
+}
@@ -0,0 +1,44 @@
+package automation.com.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+
+import java.util.Map;
+import java.util.function.Consumer;
+
+// Version-independent CDP access: commands and events are addressed by name so the suite keeps
+// working when the installed Chrome is newer than the devtools bindings shipped with Selenium.
+public class DevToolsSupport {
+
+    private static final Logger logger = LogManager.getLogger(DevToolsSupport.class);
+
+    public static DevTools open(WebDriver driver) {
+        if (!(driver instanceof HasDevTools)) {
+            return null;
+        }
+        try {
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            return devTools;
+        } catch (Exception e) {
+            logger.warn("Could not open a DevTools session: " + e.getMessage());
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public static Map<String, Object> send(DevTools devTools, String method, Map<String, Object> params) {
+        return (Map<String, Object>) devTools.send(new Command<>(method, params, Map.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    public static void on(DevTools devTools, String eventName, Consumer<Map<String, Object>> handler) {
+        devTools.addListener(new Event<Map<String, Object>>(eventName, input -> (Map<String, Object>) input.read(Map.class)),
+            handler);
+    }
+}
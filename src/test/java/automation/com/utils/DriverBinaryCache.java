@@ -0,0 +1,126 @@
+package automation.com.utils;
+
+import automation.com.config.Config;
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.Properties;
+
+public class DriverBinaryCache {
+
+    private static final Logger logger = LogManager.getLogger(DriverBinaryCache.class);
+    private static final Properties cache = loadCache();
+
+    public static synchronized void resolve(String browserType) {
+        String driverProperty = getDriverSystemProperty(browserType);
+        String cachedPath = cache.getProperty(browserType + ".driverPath");
+        String cachedFingerprint = cache.getProperty(browserType + ".browserFingerprint");
+        boolean cachedBinaryExists = cachedPath != null && new File(cachedPath).isFile();
+
+        if (Config.DRIVER_OFFLINE) {
+            if (cachedBinaryExists) {
+                String fingerprint = getBrowserFingerprint(browserType);
+                if (fingerprint == null) {
+                    logger.warn("Offline mode: could not fingerprint the installed " + browserType
+                        + " browser, cannot verify it still matches the cached driver: " + cachedPath);
+                } else if (!fingerprint.equals(cachedFingerprint)) {
+                    logger.warn("Offline mode: installed " + browserType + " browser changed since the "
+                        + browserType + " driver was cached, using cached driver anyway: " + cachedPath);
+                }
+                System.setProperty(driverProperty, cachedPath);
+                logger.info("Offline mode: using cached " + browserType + " driver: " + cachedPath);
+                return;
+            }
+            if (System.getProperty(driverProperty) != null) {
+                logger.info("Offline mode: using " + driverProperty + "=" + System.getProperty(driverProperty));
+                return;
+            }
+            throw new RuntimeException("Offline mode: no cached " + browserType + " driver in "
+                + Config.DRIVER_CACHE_FILE + ". Run once online or set -D" + driverProperty);
+        }
+
+        // An unknown fingerprint never matches, so a browser that cannot be identified is always re-resolved
+        String fingerprint = getBrowserFingerprint(browserType);
+        if (cachedBinaryExists && fingerprint != null && fingerprint.equals(cachedFingerprint)) {
+            System.setProperty(driverProperty, cachedPath);
+            logger.info("Using cached " + browserType + " driver: " + cachedPath);
+            return;
+        }
+
+        WebDriverManager manager = getManager(browserType);
+        manager.setup();
+        String driverPath = manager.getDownloadedDriverPath();
+        if (driverPath == null) {
+            logger.warn("WebDriverManager did not report a " + browserType + " driver path, nothing cached");
+            return;
+        }
+
+        cache.setProperty(browserType + ".driverPath", driverPath);
+        cache.setProperty(browserType + ".driverVersion", String.valueOf(manager.getDownloadedDriverVersion()));
+        if (fingerprint != null) {
+            cache.setProperty(browserType + ".browserFingerprint", fingerprint);
+        } else {
+            cache.remove(browserType + ".browserFingerprint");
+        }
+        saveCache();
+        logger.info("Resolved and cached " + browserType + " driver: " + driverPath);
+    }
+
+    // Null when the browser cannot be located
+    private static String getBrowserFingerprint(String browserType) {
+        try {
+            Optional<Path> browserPath = getManager(browserType).getBrowserPath();
+            if (browserPath.isPresent() && Files.exists(browserPath.get())) {
+                Path path = browserPath.get().toRealPath();
+                return path + "|" + Files.size(path) + "|" + Files.getLastModifiedTime(path).toMillis();
+            }
+        } catch (Exception e) {
+            logger.debug("Could not fingerprint " + browserType + " browser: " + e.getMessage());
+        }
+        return null;
+    }
+
+    private static WebDriverManager getManager(String browserType) {
+        return browserType.equals("firefox") ? WebDriverManager.firefoxdriver() : WebDriverManager.chromedriver();
+    }
+
+    private static String getDriverSystemProperty(String browserType) {
+        return browserType.equals("firefox") ? "webdriver.gecko.driver" : "webdriver.chrome.driver";
+    }
+
+    private static Properties loadCache() {
+        Properties properties = new Properties();
+        Path cacheFile = Paths.get(Config.DRIVER_CACHE_FILE);
+        if (Files.exists(cacheFile)) {
+            try (InputStream input = Files.newInputStream(cacheFile)) {
+                properties.load(input);
+            } catch (IOException e) {
+                logger.warn("Error reading driver cache file: " + e.getMessage());
+            }
+        }
+        return properties;
+    }
+
+    private static void saveCache() {
+        Path cacheFile = Paths.get(Config.DRIVER_CACHE_FILE);
+        try {
+            if (cacheFile.getParent() != null) {
+                Files.createDirectories(cacheFile.getParent());
+            }
+            try (OutputStream output = Files.newOutputStream(cacheFile)) {
+                cache.store(output, "WebDriver binary resolution cache");
+            }
+        } catch (IOException e) {
+            logger.warn("Error writing driver cache file: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,327 @@
+package automation.com.utils;
+
+import automation.com.config.Config;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.DevTools;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class DriverPool {
+
+    private static final Logger logger = LogManager.getLogger(DriverPool.class);
+    private static final Object lock = new Object();
+    private static final LinkedList<PooledDriver> idleDrivers = new LinkedList<>();
+    private static final Map<String, Integer> pendingWarmUps = new HashMap<>();
+    private static final Map<String, Integer> warmUpWaiters = new HashMap<>();
+    private static final String CLEAR_STORAGE_SCRIPT =
+        "try { window.localStorage.clear(); } catch (e) {}" +
+        "try { window.sessionStorage.clear(); } catch (e) {}";
+    private static int liveDrivers = 0;
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(DriverPool::shutdown, "driver-pool-shutdown"));
+    }
+
+    public static WebDriver acquire(String browserType, BrowserProfile profile) {
+        String poolKey = poolKey(browserType, profile);
+        long startTime = System.nanoTime();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(Config.DRIVER_POOL_ACQUIRE_TIMEOUT);
+
+        while (true) {
+            PooledDriver candidate = null;
+            PooledDriver evicted = null;
+            boolean mayCreate = false;
+
+            synchronized (lock) {
+                candidate = pollIdle(poolKey);
+                if (candidate == null) {
+                    // Each pending warm-up is reserved by one waiting leaser; everyone else cold-starts in parallel
+                    if (pendingWarmUps.getOrDefault(poolKey, 0) > warmUpWaiters.getOrDefault(poolKey, 0)) {
+                        warmUpWaiters.merge(poolKey, 1, Integer::sum);
+                        try {
+                            waitForPoolChange(deadline, poolKey);
+                        } finally {
+                            warmUpWaiters.merge(poolKey, -1, Integer::sum);
+                        }
+                        continue;
+                    } else if (liveDrivers < Config.DRIVER_POOL_MAX_SIZE) {
+                        liveDrivers++;
+                        mayCreate = true;
+                    } else if (!idleDrivers.isEmpty()) {
+                        evicted = idleDrivers.removeFirst();
+                        mayCreate = true;
+                    } else {
+                        waitForPoolChange(deadline, poolKey);
+                        continue;
+                    }
+                }
+            }
+
+            if (evicted != null) {
+                logger.info("Evicting idle " + evicted.poolKey + " driver to make room for " + poolKey);
+                quietlyQuit(evicted.driver);
+            }
+
+            if (candidate != null) {
+                if (isHealthy(candidate.driver)) {
+                    StartupStats.recordWarmLease(System.nanoTime() - startTime);
+                    logger.info("Leased pooled " + poolKey + " driver to thread: " + Thread.currentThread().getName());
+                    return candidate.driver;
+                }
+                logger.warn("Discarding unhealthy pooled " + poolKey + " driver");
+                destroy(candidate.driver);
+                continue;
+            }
+
+            if (mayCreate) {
+                try {
+                    WebDriver driver = BrowserManager.createDriver(browserType, profile);
+                    StartupStats.recordColdLease(System.nanoTime() - startTime);
+                    logger.info("Created new " + poolKey + " driver for thread: " + Thread.currentThread().getName());
+                    return driver;
+                } catch (RuntimeException e) {
+                    synchronized (lock) {
+                        liveDrivers--;
+                        lock.notifyAll();
+                    }
+                    throw e;
+                }
+            }
+        }
+    }
+
+    public static void release(WebDriver driver, String browserType, BrowserProfile profile) {
+        String poolKey = poolKey(browserType, profile);
+        if (driver == null) {
+            return;
+        }
+
+        if (!resetForReuse(driver)) {
+            logger.warn("Driver could not be reset, removing it from the pool");
+            destroy(driver);
+            return;
+        }
+
+        synchronized (lock) {
+            idleDrivers.addLast(new PooledDriver(poolKey, driver));
+            lock.notifyAll();
+        }
+        logger.info("Returned " + poolKey + " driver to pool from thread: " + Thread.currentThread().getName());
+    }
+
+    public static void destroy(WebDriver driver) {
+        if (driver == null) {
+            return;
+        }
+        quietlyQuit(driver);
+        synchronized (lock) {
+            liveDrivers--;
+            lock.notifyAll();
+        }
+    }
+
+    public static void warmUp(String browserType, BrowserProfile profile, int count) {
+        String poolKey = poolKey(browserType, profile);
+        int toCreate = reserveWarmUps(poolKey, count);
+        if (toCreate <= 0) {
+            return;
+        }
+
+        logger.info("Warming up " + toCreate + " " + poolKey + " driver(s)");
+        ExecutorService executor = Executors.newFixedThreadPool(toCreate);
+        try {
+            List<Future<WebDriver>> futures = new ArrayList<>();
+            for (int i = 0; i < toCreate; i++) {
+                futures.add(executor.submit(() -> {
+                    long startTime = System.nanoTime();
+                    WebDriver driver = BrowserManager.createDriver(browserType, profile);
+                    StartupStats.recordWarmUp(System.nanoTime() - startTime);
+                    return driver;
+                }));
+            }
+
+            for (Future<WebDriver> future : futures) {
+                try {
+                    WebDriver driver = future.get();
+                    synchronized (lock) {
+                        idleDrivers.addLast(new PooledDriver(poolKey, driver));
+                        pendingWarmUps.merge(poolKey, -1, Integer::sum);
+                        lock.notifyAll();
+                    }
+                } catch (Exception e) {
+                    logger.error("Error warming up driver: " + e.getMessage());
+                    synchronized (lock) {
+                        liveDrivers--;
+                        pendingWarmUps.merge(poolKey, -1, Integer::sum);
+                        lock.notifyAll();
+                    }
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    public static void warmUpAsync(String browserType, BrowserProfile profile, int count) {
+        Thread warmUpThread = new Thread(() -> warmUp(browserType, profile, count), "driver-pool-warmup");
+        warmUpThread.setDaemon(true);
+        warmUpThread.start();
+    }
+
+    public static boolean isHealthy(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (Exception e) {
+            logger.debug("Driver health check failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    public static void shutdown() {
+        List<PooledDriver> drivers;
+        synchronized (lock) {
+            drivers = new ArrayList<>(idleDrivers);
+            idleDrivers.clear();
+            liveDrivers -= drivers.size();
+            lock.notifyAll();
+        }
+
+        for (PooledDriver pooledDriver : drivers) {
+            quietlyQuit(pooledDriver.driver);
+        }
+        if (!drivers.isEmpty()) {
+            logger.info("Driver pool shut down, quit " + drivers.size() + " idle driver(s)");
+        }
+    }
+
+    public static int getIdleCount() {
+        synchronized (lock) {
+            return idleDrivers.size();
+        }
+    }
+
+    public static int getLiveCount() {
+        synchronized (lock) {
+            return liveDrivers;
+        }
+    }
+
+    private static String poolKey(String browserType, BrowserProfile profile) {
+        return browserType + "/" + profile.getName();
+    }
+
+    private static int reserveWarmUps(String poolKey, int count) {
+        synchronized (lock) {
+            int toCreate = Math.min(count, Config.DRIVER_POOL_MAX_SIZE - liveDrivers);
+            if (toCreate > 0) {
+                liveDrivers += toCreate;
+                pendingWarmUps.merge(poolKey, toCreate, Integer::sum);
+            }
+            return toCreate;
+        }
+    }
+
+    private static void waitForPoolChange(long deadline, String poolKey) {
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+            throw new RuntimeException("Timed out waiting for a pooled " + poolKey
+                + " driver (max size: " + Config.DRIVER_POOL_MAX_SIZE + ")");
+        }
+        try {
+            TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for a pooled driver", e);
+        }
+    }
+
+    private static PooledDriver pollIdle(String poolKey) {
+        Iterator<PooledDriver> iterator = idleDrivers.iterator();
+        while (iterator.hasNext()) {
+            PooledDriver pooledDriver = iterator.next();
+            if (pooledDriver.poolKey.equals(poolKey)) {
+                iterator.remove();
+                return pooledDriver;
+            }
+        }
+        return null;
+    }
+
+    // deleteAllCookies only reaches the current document's domain, so consent, Lever and third-party state is
+    // cleared for the whole browser through CDP; without DevTools each open window's storage is cleared by script
+    private static boolean resetForReuse(WebDriver driver) {
+        try {
+            DevTools devTools = DevToolsSupport.open(driver);
+            Set<String> origins = new LinkedHashSet<>();
+            origins.add(originOf(Config.BASE_URL));
+            List<String> handles = new ArrayList<>(driver.getWindowHandles());
+            for (int i = handles.size() - 1; i >= 0; i--) {
+                driver.switchTo().window(handles.get(i));
+                String origin = originOf(driver.getCurrentUrl());
+                if (origin != null) {
+                    origins.add(origin);
+                    if (devTools == null) {
+                        ((JavascriptExecutor) driver).executeScript(CLEAR_STORAGE_SCRIPT);
+                        driver.manage().deleteAllCookies();
+                    }
+                }
+                if (i > 0) {
+                    driver.close();
+                }
+            }
+            if (devTools != null) {
+                DevToolsSupport.send(devTools, "Network.clearBrowserCookies", Map.of());
+                for (String origin : origins) {
+                    DevToolsSupport.send(devTools, "Storage.clearDataForOrigin", Map.of("origin", origin, "storageTypes", "all"));
+                }
+            }
+            driver.get("about:blank");
+            return true;
+        } catch (Exception e) {
+            logger.debug("Error resetting driver for reuse: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private static String originOf(String url) {
+        if (url == null || !url.startsWith("http")) {
+            return null;
+        }
+        URI uri = URI.create(url);
+        return uri.getScheme() + "://" + uri.getAuthority();
+    }
+
+    private static void quietlyQuit(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            logger.debug("Error quitting pooled driver: " + e.getMessage());
+        }
+    }
+
+    private static class PooledDriver {
+        private final String poolKey;
+        private final WebDriver driver;
+
+        private PooledDriver(String poolKey, WebDriver driver) {
+            this.poolKey = poolKey;
+            this.driver = driver;
+        }
+    }
+}
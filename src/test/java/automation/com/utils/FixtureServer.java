@@ -0,0 +1,130 @@
+package automation.com.utils;
+
+import automation.com.config.Config;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class FixtureServer {
+
+    private static final Logger logger = LogManager.getLogger(FixtureServer.class);
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+        "html", "text/html; charset=utf-8",
+        "css", "text/css; charset=utf-8",
+        "js", "application/javascript; charset=utf-8",
+        "json", "application/json; charset=utf-8",
+        "svg", "image/svg+xml",
+        "png", "image/png",
+        "ico", "image/x-icon");
+    private static final Map<String, Optional<byte[]>> fileCache = new ConcurrentHashMap<>();
+    private static final AtomicLong requestCount = new AtomicLong();
+    private static final AtomicLong notFoundCount = new AtomicLong();
+    private static HttpServer server;
+    private static ExecutorService executor;
+
+    public static synchronized void start() {
+        if (server != null) {
+            return;
+        }
+
+        Path root = Paths.get(Config.FIXTURES_PATH);
+        if (!Files.isDirectory(root)) {
+            throw new RuntimeException("Fixture directory not found: " + root.toAbsolutePath());
+        }
+
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), Config.FIXTURES_PORT), 0);
+            executor = Executors.newFixedThreadPool(Config.DRIVER_POOL_MAX_SIZE, runnable -> {
+                Thread thread = new Thread(runnable, "fixture-server");
+                thread.setDaemon(true);
+                return thread;
+            });
+            server.setExecutor(executor);
+            server.createContext("/", exchange -> serve(exchange, root));
+            server.start();
+            logger.info("Fixture server started at " + Config.BASE_URL + " serving " + root.toAbsolutePath());
+        } catch (IOException e) {
+            server = null;
+            throw new RuntimeException("Failed to start fixture server on port " + Config.FIXTURES_PORT, e);
+        }
+    }
+
+    public static synchronized void stop() {
+        if (server == null) {
+            return;
+        }
+        server.stop(0);
+        executor.shutdownNow();
+        server = null;
+        logger.info("Fixture server stopped after " + requestCount.get() + " request(s), "
+            + notFoundCount.get() + " not found");
+    }
+
+    public static boolean isRunning() {
+        return server != null;
+    }
+
+    private static void serve(HttpExchange exchange, Path root) throws IOException {
+        requestCount.incrementAndGet();
+        try (exchange) {
+            String requestPath = exchange.getRequestURI().getPath();
+            if (requestPath.endsWith("/")) {
+                requestPath += "index.html";
+            }
+
+            Path file = root.resolve(requestPath.substring(1)).normalize();
+            Optional<byte[]> body = file.startsWith(root)
+                ? fileCache.computeIfAbsent(file.toString(), key -> readFile(file))
+                : Optional.empty();
+
+            if (body.isEmpty()) {
+                notFoundCount.incrementAndGet();
+                logger.debug("Fixture not found: " + exchange.getRequestURI());
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+
+            byte[] bytes = body.get();
+            exchange.getResponseHeaders().set("Content-Type", contentType(file));
+            exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+            if ("HEAD".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream responseBody = exchange.getResponseBody()) {
+                responseBody.write(bytes);
+            }
+        }
+    }
+
+    private static Optional<byte[]> readFile(Path file) {
+        try {
+            return Files.isRegularFile(file) ? Optional.of(Files.readAllBytes(file)) : Optional.empty();
+        } catch (IOException e) {
+            logger.error("Error reading fixture " + file + ": " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static String contentType(Path file) {
+        String fileName = file.getFileName().toString();
+        String extension = fileName.substring(fileName.lastIndexOf('.') + 1).toLowerCase();
+        return CONTENT_TYPES.getOrDefault(extension, "application/octet-stream");
+    }
+}
@@ -0,0 +1,84 @@
+package automation.com.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void testLinearBucketsAreExact() {
+        for (long micros = 0; micros < 16; micros++) {
+            int index = LatencyHistogram.bucketIndex(micros);
+            Assert.assertEquals(index, (int) micros);
+            Assert.assertEquals(LatencyHistogram.bucketUpperBound(index), micros + 1);
+        }
+        Assert.assertEquals(LatencyHistogram.bucketIndex(-5), 0);
+    }
+
+    @Test
+    public void testLogBucketsContainValueWithinRelativeError() {
+        for (long micros = 16; micros < (1L << 30); micros += Math.max(1, micros / 37)) {
+            int index = LatencyHistogram.bucketIndex(micros);
+            long upper = LatencyHistogram.bucketUpperBound(index);
+            long lower = LatencyHistogram.bucketUpperBound(index - 1);
+            Assert.assertTrue(lower <= micros && micros < upper,
+                micros + " us is outside bucket " + index + " [" + lower + ", " + upper + ")");
+            Assert.assertTrue(upper - micros <= micros / 8, "Bucket " + index + " is too wide for " + micros + " us");
+        }
+    }
+
+    @Test
+    public void testBucketBoundariesAreContiguous() {
+        Assert.assertEquals(LatencyHistogram.bucketIndex(16), 16);
+        Assert.assertEquals(LatencyHistogram.bucketIndex(17), 16);
+        Assert.assertEquals(LatencyHistogram.bucketIndex(18), 17);
+        Assert.assertEquals(LatencyHistogram.bucketUpperBound(16), 18);
+        for (int index = 16; index < 200; index++) {
+            long upper = LatencyHistogram.bucketUpperBound(index);
+            Assert.assertEquals(LatencyHistogram.bucketIndex(upper - 1), index);
+            Assert.assertEquals(LatencyHistogram.bucketIndex(upper), index + 1);
+        }
+    }
+
+    @Test
+    public void testValuesBeyondRangeUseLastBucket() {
+        int last = LatencyHistogram.bucketIndex(Long.MAX_VALUE);
+        Assert.assertEquals(LatencyHistogram.bucketIndex(1L << 31), last);
+        Assert.assertTrue(LatencyHistogram.bucketIndex((1L << 30) - 1) <= last);
+    }
+
+    @Test
+    public void testEmptyHistogramReportsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Assert.assertEquals(histogram.getCount(), 0);
+        Assert.assertEquals(histogram.percentileNanos(50), 0);
+        Assert.assertEquals(histogram.percentileNanos(99), 0);
+    }
+
+    @Test
+    public void testPercentilesUseBucketUpperBoundCappedAtMax() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 100; micros++) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(micros));
+        }
+        Assert.assertEquals(histogram.getCount(), 100);
+        Assert.assertEquals(histogram.getTotalNanos(), TimeUnit.MICROSECONDS.toNanos(5050));
+        Assert.assertEquals(histogram.getMaxNanos(), TimeUnit.MICROSECONDS.toNanos(100));
+
+        // 50 us falls into [48, 52) us, 90 us into [88, 96) us, and 100 us is capped at the observed maximum
+        Assert.assertEquals(histogram.percentileNanos(50), TimeUnit.MICROSECONDS.toNanos(52));
+        Assert.assertEquals(histogram.percentileNanos(90), TimeUnit.MICROSECONDS.toNanos(96));
+        Assert.assertEquals(histogram.percentileNanos(100), TimeUnit.MICROSECONDS.toNanos(100));
+        Assert.assertEquals(histogram.percentileNanos(0), TimeUnit.MICROSECONDS.toNanos(2));
+    }
+
+    @Test
+    public void testPercentileOfOverflowValueIsMax() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        long nanos = TimeUnit.MINUTES.toNanos(30);
+        histogram.record(nanos);
+        Assert.assertEquals(histogram.percentileNanos(50), nanos);
+    }
+}
@@ -0,0 +1,158 @@
+package automation.com.utils;
+
+import automation.com.config.Config;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Orders fallback locators by how often they resolved an element in earlier waits. The declared primary always
+// stays first, so a broad fallback that wins one poll while the page is still rendering can never shadow it.
+public class LocatorCache {
+
+    private static final Logger logger = LogManager.getLogger(LocatorCache.class);
+    private static final double SCORE_DECAY = 0.7;
+    private static final double INITIAL_SCORE = 0.5;
+    private static final int PRUNE_AFTER_ATTEMPTS = 5;
+    private static final Map<String, Entry> entries = loadCache();
+
+    public static By[] order(String elementKey, By[] candidates) {
+        if (!Config.LOCATOR_CACHE_ENABLED || candidates.length < 2) {
+            return candidates;
+        }
+        By[] ordered = Arrays.copyOf(candidates, candidates.length);
+        Arrays.sort(ordered, 1, ordered.length,
+            Comparator.comparingDouble((By locator) -> getScore(elementKey, locator)).reversed());
+        return ordered;
+    }
+
+    // Candidates before the winner are not counted as misses, they may simply not have rendered yet
+    public static void recordHit(String elementKey, By matchedLocator) {
+        if (!Config.LOCATOR_CACHE_ENABLED) {
+            return;
+        }
+        entries.computeIfAbsent(entryKey(elementKey, matchedLocator), key -> new Entry()).record(true);
+    }
+
+    // Only a wait that timed out without any candidate matching counts as a miss, for all of them alike
+    public static void recordTimeout(String elementKey, By[] candidates) {
+        if (!Config.LOCATOR_CACHE_ENABLED) {
+            return;
+        }
+        for (By locator : candidates) {
+            entries.computeIfAbsent(entryKey(elementKey, locator), key -> new Entry()).record(false);
+        }
+    }
+
+    public static synchronized void save() {
+        if (!Config.LOCATOR_CACHE_ENABLED || entries.isEmpty()) {
+            return;
+        }
+        Properties properties = new Properties();
+        for (Map.Entry<String, Entry> e : entries.entrySet()) {
+            properties.setProperty(e.getKey(), e.getValue().serialize());
+        }
+
+        Path cacheFile = Paths.get(Config.LOCATOR_CACHE_FILE);
+        try {
+            if (cacheFile.getParent() != null) {
+                Files.createDirectories(cacheFile.getParent());
+            }
+            try (OutputStream output = Files.newOutputStream(cacheFile)) {
+                properties.store(output, "Locator hit cache: hits,attempts,score");
+            }
+            logger.info("Locator cache saved: " + Config.LOCATOR_CACHE_FILE);
+        } catch (IOException e) {
+            logger.warn("Error writing locator cache file: " + e.getMessage());
+        }
+    }
+
+    public static void logReport() {
+        if (!Config.LOCATOR_CACHE_ENABLED || entries.isEmpty()) {
+            return;
+        }
+        logger.info("=== LOCATOR CACHE REPORT ===");
+        for (Map.Entry<String, Entry> e : new TreeMap<>(entries).entrySet()) {
+            Entry entry = e.getValue();
+            String pruneHint = entry.hits == 0 && entry.attempts >= PRUNE_AFTER_ATTEMPTS ? " | NEVER MATCHED - prune candidate" : "";
+            logger.info("  " + e.getKey() + " | hits: " + entry.hits + "/" + entry.attempts
+                + " | score: " + String.format("%.2f", entry.score) + pruneHint);
+        }
+        logger.info("=== END LOCATOR CACHE REPORT ===");
+    }
+
+    private static double getScore(String elementKey, By locator) {
+        Entry entry = entries.get(entryKey(elementKey, locator));
+        return entry != null ? entry.score : INITIAL_SCORE;
+    }
+
+    private static String entryKey(String elementKey, By locator) {
+        return elementKey + " | " + locator;
+    }
+
+    private static Map<String, Entry> loadCache() {
+        Map<String, Entry> loaded = new ConcurrentHashMap<>();
+        Path cacheFile = Paths.get(Config.LOCATOR_CACHE_FILE);
+        if (!Config.LOCATOR_CACHE_ENABLED || !Files.exists(cacheFile)) {
+            return loaded;
+        }
+
+        Properties properties = new Properties();
+        try (InputStream input = Files.newInputStream(cacheFile)) {
+            properties.load(input);
+            for (String key : properties.stringPropertyNames()) {
+                Entry entry = Entry.parse(properties.getProperty(key));
+                if (entry != null) {
+                    loaded.put(key, entry);
+                }
+            }
+            logger.info("Loaded " + loaded.size() + " locator cache entries from " + Config.LOCATOR_CACHE_FILE);
+        } catch (IOException e) {
+            logger.warn("Error reading locator cache file: " + e.getMessage());
+        }
+        return loaded;
+    }
+
+    private static class Entry {
+        private int hits;
+        private int attempts;
+        private double score = INITIAL_SCORE;
+
+        private synchronized void record(boolean hit) {
+            attempts++;
+            if (hit) {
+                hits++;
+            }
+            score = score * SCORE_DECAY + (hit ? 1 - SCORE_DECAY : 0);
+        }
+
+        private synchronized String serialize() {
+            return hits + "," + attempts + "," + score;
+        }
+
+        private static Entry parse(String value) {
+            try {
+                String[] parts = value.split(",");
+                Entry entry = new Entry();
+                entry.hits = Integer.parseInt(parts[0].trim());
+                entry.attempts = Integer.parseInt(parts[1].trim());
+                entry.score = Double.parseDouble(parts[2].trim());
+                return entry;
+            } catch (Exception e) {
+                return null;
+            }
+        }
+    }
+}
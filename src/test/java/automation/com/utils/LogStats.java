@@ -0,0 +1,118 @@
+package automation.com.utils;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.AppenderRef;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.config.LoggerConfig;
+import org.apache.logging.log4j.core.config.Property;
+import org.apache.logging.log4j.core.filter.Filterable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Wraps every configured appender to time each append (formatting plus the write, on the async logging thread)
+// and to count events and message characters per appender
+public class LogStats {
+
+    private static final Logger logger = LogManager.getLogger(LogStats.class);
+    private static final Map<String, TimingAppender> appendersByName = new ConcurrentHashMap<>();
+
+    public static synchronized void install() {
+        if (!appendersByName.isEmpty()) {
+            return;
+        }
+
+        LoggerContext context = (LoggerContext) LogManager.getContext(false);
+        Configuration configuration = context.getConfiguration();
+        List<LoggerConfig> loggerConfigs = new ArrayList<>(configuration.getLoggers().values());
+        if (!loggerConfigs.contains(configuration.getRootLogger())) {
+            loggerConfigs.add(configuration.getRootLogger());
+        }
+
+        for (LoggerConfig loggerConfig : loggerConfigs) {
+            Map<String, Appender> appenders = loggerConfig.getAppenders();
+            for (AppenderRef ref : loggerConfig.getAppenderRefs()) {
+                Appender appender = appenders.get(ref.getRef());
+                if (appender == null || appender instanceof TimingAppender) {
+                    continue;
+                }
+                TimingAppender timingAppender = appendersByName.computeIfAbsent(ref.getRef(), name -> {
+                    TimingAppender created = new TimingAppender(appender);
+                    created.start();
+                    return created;
+                });
+                loggerConfig.removeAppender(ref.getRef());
+                loggerConfig.addAppender(timingAppender, ref.getLevel(), ref.getFilter());
+            }
+        }
+        context.updateLoggers();
+        logger.debug("Log statistics installed on " + appendersByName.size() + " appender(s)");
+    }
+
+    public static void logReport() {
+        if (appendersByName.isEmpty()) {
+            return;
+        }
+
+        long totalEvents = 0;
+        long totalChars = 0;
+        long totalNanos = 0;
+        logger.info("=== LOGGING OVERHEAD REPORT ===");
+        for (Map.Entry<String, TimingAppender> entry : appendersByName.entrySet()) {
+            TimingAppender appender = entry.getValue();
+            LatencyHistogram appendTimes = appender.appendTimes;
+            totalEvents += appendTimes.getCount();
+            totalChars += appender.messageChars.get();
+            totalNanos += appendTimes.getTotalNanos();
+            logger.info(entry.getKey() + ": " + appendTimes.getCount() + " event(s), "
+                + appender.messageChars.get() + " message chars (warn: " + appender.warnEvents.get()
+                + ", error: " + appender.errorEvents.get() + "), append time "
+                + TimeUnit.NANOSECONDS.toMillis(appendTimes.getTotalNanos()) + " ms total, p99 "
+                + TimeUnit.NANOSECONDS.toMicros(appendTimes.percentileNanos(99)) + " us, max "
+                + TimeUnit.NANOSECONDS.toMicros(appendTimes.getMaxNanos()) + " us");
+        }
+        logger.info("Total appender writes: " + totalEvents + " (" + totalChars + " message chars) in "
+            + TimeUnit.NANOSECONDS.toMillis(totalNanos) + " ms, handled on the async logging thread");
+        logger.info("=== END LOGGING OVERHEAD REPORT ===");
+    }
+
+    private static class TimingAppender extends AbstractAppender {
+        private final Appender delegate;
+        private final LatencyHistogram appendTimes = new LatencyHistogram();
+        private final AtomicLong warnEvents = new AtomicLong();
+        private final AtomicLong errorEvents = new AtomicLong();
+        private final AtomicLong messageChars = new AtomicLong();
+
+        private TimingAppender(Appender delegate) {
+            super(delegate.getName(), null, null, delegate.ignoreExceptions(), Property.EMPTY_ARRAY);
+            this.delegate = delegate;
+        }
+
+        // The delegate's own filter (e.g. the ERROR threshold) is normally applied by Log4j before append
+        @Override
+        public void append(LogEvent event) {
+            if (delegate instanceof Filterable && ((Filterable) delegate).isFiltered(event)) {
+                return;
+            }
+            long startTime = System.nanoTime();
+            delegate.append(event);
+            appendTimes.record(System.nanoTime() - startTime);
+            messageChars.addAndGet(event.getMessage().getFormattedMessage().length());
+            if (event.getLevel().isMoreSpecificThan(Level.ERROR)) {
+                errorEvents.incrementAndGet();
+            } else if (event.getLevel().isMoreSpecificThan(Level.WARN)) {
+                warnEvents.incrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package automation.com.utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.DevTools;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// Tracks in-flight requests of a Chrome driver through CDP Network events for network-idle readiness.
+// Attached when the driver is created so requests started before the first idle check are counted.
+public class NetworkActivity {
+
+    private static final Map<WebDriver, NetworkActivity> trackers = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    private volatile long lastActivityNanos = System.nanoTime();
+
+    public static void attach(WebDriver driver) {
+        DevTools devTools = DevToolsSupport.open(driver);
+        if (devTools == null) {
+            return;
+        }
+        NetworkActivity tracker = new NetworkActivity();
+        tracker.attach(devTools);
+        trackers.put(driver, tracker);
+    }
+
+    // Null when the driver has no DevTools session
+    public static NetworkActivity of(WebDriver driver) {
+        return trackers.get(driver);
+    }
+
+    public boolean isIdle(int maxInFlight, int quietMillis) {
+        return inFlight.size() <= maxInFlight
+            && System.nanoTime() - lastActivityNanos >= TimeUnit.MILLISECONDS.toNanos(quietMillis);
+    }
+
+    private void attach(DevTools devTools) {
+        DevToolsSupport.on(devTools, "Network.requestWillBeSent", event -> {
+            inFlight.add((String) event.get("requestId"));
+            lastActivityNanos = System.nanoTime();
+        });
+        DevToolsSupport.on(devTools, "Network.loadingFinished", event -> finished((String) event.get("requestId")));
+        DevToolsSupport.on(devTools, "Network.loadingFailed", event -> finished((String) event.get("requestId")));
+        DevToolsSupport.send(devTools, "Network.enable", Map.of());
+    }
+
+    private void finished(String requestId) {
+        if (inFlight.remove(requestId)) {
+            lastActivityNanos = System.nanoTime();
+        }
+    }
+}
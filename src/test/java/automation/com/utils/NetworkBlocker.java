@@ -0,0 +1,143 @@
+package automation.com.utils;
+
+import automation.com.config.Config;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.DevTools;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+// Blocks third-party trackers, chat widgets and heavy media via CDP Network.setBlockedURLs (Chrome only).
+// Opt-in with -Dnetwork.blocking=true; consent/CMP vendors are never in the default list because the
+// cookie banner is part of what the suite renders and asserts.
+public class NetworkBlocker {
+
+    private static final Logger logger = LogManager.getLogger(NetworkBlocker.class);
+    private static final String DEFAULT_BLOCKLIST = String.join(",",
+        "*google-analytics.com*", "*googletagmanager.com*", "*doubleclick.net*", "*googleadservices.com*",
+        "*connect.facebook.net*", "*facebook.com/tr*", "*hotjar.com*", "*clarity.ms*", "*bat.bing.com*",
+        "*snap.licdn.com*", "*px.ads.linkedin.com*", "*hs-scripts.com*", "*hs-analytics.net*", "*hsforms.net*",
+        "*intercom.io*", "*intercomcdn.com*", "*drift.com*", "*driftt.com*",
+        "*youtube.com/embed*", "*ytimg.com*", "*player.vimeo.com*", "*vimeocdn.com*", "*.mp4*", "*.webm*");
+    private static final List<String> patterns = parsePatterns();
+    private static final List<Pattern> matchers = patterns.stream()
+        .map(pattern -> Pattern.compile(Arrays.stream(pattern.split("\\*", -1))
+            .map(Pattern::quote).collect(Collectors.joining(".*"))))
+        .collect(Collectors.toList());
+    private static final Map<String, AtomicLong> blockedByPattern = new ConcurrentHashMap<>();
+    private static final Map<String, AtomicLong> blockedByType = new ConcurrentHashMap<>();
+    private static final Map<String, AtomicLong> loadedByType = new ConcurrentHashMap<>();
+    private static final Map<String, AtomicLong> loadedBytesByType = new ConcurrentHashMap<>();
+    private static final AtomicLong blockedRequests = new AtomicLong();
+    private static final AtomicLong loadedRequests = new AtomicLong();
+    private static final AtomicLong transferredBytes = new AtomicLong();
+
+    public static boolean isEnabled() {
+        return Config.NETWORK_BLOCKING_ENABLED && !patterns.isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    public static void attach(WebDriver driver) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        DevTools devTools = DevToolsSupport.open(driver);
+        if (devTools == null) {
+            logger.warn("Network blocking needs a Chrome DevTools session, "
+                + driver.getClass().getSimpleName() + " will load every request");
+            return;
+        }
+
+        Map<String, String[]> inFlight = new ConcurrentHashMap<>();
+        DevToolsSupport.on(devTools, "Network.requestWillBeSent", event -> {
+            Map<String, Object> request = (Map<String, Object>) event.get("request");
+            inFlight.put((String) event.get("requestId"),
+                new String[] {String.valueOf(request.get("url")), String.valueOf(event.get("type"))});
+        });
+        DevToolsSupport.on(devTools, "Network.loadingFinished", event -> {
+            String[] request = inFlight.remove((String) event.get("requestId"));
+            long bytes = ((Number) event.getOrDefault("encodedDataLength", 0)).longValue();
+            loadedRequests.incrementAndGet();
+            transferredBytes.addAndGet(bytes);
+            if (request != null) {
+                counter(loadedByType, request[1]).incrementAndGet();
+                counter(loadedBytesByType, request[1]).addAndGet(bytes);
+            }
+        });
+        DevToolsSupport.on(devTools, "Network.loadingFailed", event -> {
+            String[] request = inFlight.remove((String) event.get("requestId"));
+            if (request == null || event.get("blockedReason") == null) {
+                return;
+            }
+            blockedRequests.incrementAndGet();
+            counter(blockedByType, request[1]).incrementAndGet();
+            counter(blockedByPattern, matchingPattern(request[0])).incrementAndGet();
+        });
+
+        DevToolsSupport.send(devTools, "Network.enable", Map.of());
+        DevToolsSupport.send(devTools, "Network.setBlockedURLs", Map.of("urls", patterns));
+        logger.info("Blocking " + patterns.size() + " URL pattern(s) for new driver");
+    }
+
+    public static void logReport() {
+        if (!isEnabled()) {
+            return;
+        }
+
+        logger.info("=== NETWORK BLOCKING REPORT ===");
+        logger.info("Loaded requests: " + loadedRequests.get() + " (" + (transferredBytes.get() / 1024) + " KB transferred)");
+        logger.info("Blocked requests: " + blockedRequests.get() + " (~" + (estimateSavedBytes() / 1024)
+            + " KB saved, estimated from the average size of loaded requests of the same type)");
+
+        List<Map.Entry<String, AtomicLong>> sorted = new ArrayList<>(blockedByPattern.entrySet());
+        sorted.sort((first, second) -> Long.compare(second.getValue().get(), first.getValue().get()));
+        for (Map.Entry<String, AtomicLong> entry : sorted) {
+            logger.info("  " + entry.getKey() + ": " + entry.getValue().get());
+        }
+        logger.info("=== END NETWORK BLOCKING REPORT ===");
+    }
+
+    private static long estimateSavedBytes() {
+        long savedBytes = 0;
+        for (Map.Entry<String, AtomicLong> entry : blockedByType.entrySet()) {
+            AtomicLong loaded = loadedByType.get(entry.getKey());
+            if (loaded != null && loaded.get() > 0) {
+                savedBytes += entry.getValue().get() * (loadedBytesByType.get(entry.getKey()).get() / loaded.get());
+            }
+        }
+        return savedBytes;
+    }
+
+    private static String matchingPattern(String url) {
+        for (int i = 0; i < matchers.size(); i++) {
+            if (matchers.get(i).matcher(url).matches()) {
+                return patterns.get(i);
+            }
+        }
+        return "(other)";
+    }
+
+    private static AtomicLong counter(Map<String, AtomicLong> counters, String key) {
+        return counters.computeIfAbsent(key, k -> new AtomicLong());
+    }
+
+    private static List<String> parsePatterns() {
+        Map<String, Boolean> unique = new LinkedHashMap<>();
+        for (String pattern : System.getProperty("network.blocklist", DEFAULT_BLOCKLIST).split(",")) {
+            if (!pattern.trim().isEmpty()) {
+                unique.put(pattern.trim(), Boolean.TRUE);
+            }
+        }
+        return new ArrayList<>(unique.keySet());
+    }
+}
@@ -1,47 +1,113 @@
 package automation.com.utils;
 
 import automation.com.config.Config;
-import org.apache.commons.io.FileUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
 import org.testng.ITestResult;
+import org.testng.Reporter;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class ScreenshotUtil {
     
     private static final Logger logger = LogManager.getLogger(ScreenshotUtil.class);
+    private static volatile boolean screenshotDirectoryCreated = false;
+    private static final Map<String, CompletableFuture<String>> capturesByHash = new ConcurrentHashMap<>();
+    private static final Map<String, TestBudget> budgetsByTest = new ConcurrentHashMap<>();
+    private static final AtomicLong capturedCount = new AtomicLong();
+    private static final AtomicLong duplicateCount = new AtomicLong();
+    private static final AtomicLong rateLimitedCount = new AtomicLong();
+    private static final AtomicLong bytesSaved = new AtomicLong();
     
     public static String takeScreenshot(WebDriver driver, String fileName) {
+        return takeScreenshot(driver, fileName, false);
+    }
+    
+    private static String takeScreenshot(WebDriver driver, String fileName, boolean bypassBudget) {
+        long startTime = TraceRecorder.begin();
         try {
-            File screenshotDir = new File(Config.SCREENSHOT_PATH);
-            if (!screenshotDir.exists()) {
-                screenshotDir.mkdirs();
-                logger.info("Created screenshots directory: " + Config.SCREENSHOT_PATH);
+            if (!bypassBudget && !tryAcquireBudget(fileName)) {
+                return null;
             }
             
+            ensureScreenshotDirectory();
+            
             String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
             String fullFileName = fileName + "_" + timestamp + ".png";
             String filePath = Config.SCREENSHOT_PATH + fullFileName;
             
             TakesScreenshot takesScreenshot = (TakesScreenshot) driver;
-            File sourceFile = takesScreenshot.getScreenshotAs(OutputType.FILE);
-            File destinationFile = new File(filePath);
+            byte[] screenshot = takesScreenshot.getScreenshotAs(OutputType.BYTES);
+            capturedCount.incrementAndGet();
+            
+            if (!"off".equalsIgnoreCase(Config.SCREENSHOT_DEDUP_MODE)) {
+                // The hash is claimed with a pending path that completes only once the original write is queued,
+                // so an identical capture on another thread cannot queue its link ahead of the file it links to
+                CompletableFuture<String> queued = new CompletableFuture<>();
+                CompletableFuture<String> existing = capturesByHash.putIfAbsent(sha256(screenshot), queued);
+                if (existing == null) {
+                    try {
+                        ScreenshotWriter.submit(Paths.get(filePath), screenshot);
+                    } finally {
+                        queued.complete(filePath);
+                    }
+                    logger.info("Screenshot queued for writing: " + filePath);
+                    return filePath;
+                }
+                String existingPath = existing.join();
+                if (!existingPath.equals(filePath)) {
+                    duplicateCount.incrementAndGet();
+                    bytesSaved.addAndGet(screenshot.length);
+                    if ("link".equalsIgnoreCase(Config.SCREENSHOT_DEDUP_MODE)) {
+                        ScreenshotWriter.submitLink(Paths.get(filePath), Paths.get(existingPath));
+                        return filePath;
+                    }
+                    logger.info("Screenshot " + fullFileName + " is identical to " + existingPath + ", not writing it again");
+                    return existingPath;
+                }
+            }
             
-            FileUtils.copyFile(sourceFile, destinationFile);
+            ScreenshotWriter.submit(Paths.get(filePath), screenshot);
             
-            logger.info("Screenshot saved successfully: " + filePath);
+            logger.info("Screenshot queued for writing: " + filePath);
             return filePath;
             
-        } catch (IOException e) {
+        } catch (Exception e) {
             logger.error("Error taking screenshot: " + e.getMessage());
             return null;
+        } finally {
+            TraceRecorder.end("screenshot", fileName, startTime);
+        }
+    }
+    
+    public static boolean flush() {
+        return ScreenshotWriter.flush(Config.SCREENSHOT_FLUSH_TIMEOUT);
+    }
+    
+    private static void ensureScreenshotDirectory() throws IOException {
+        if (!screenshotDirectoryCreated) {
+            Path screenshotDir = Paths.get(Config.SCREENSHOT_PATH);
+            if (!Files.exists(screenshotDir)) {
+                Files.createDirectories(screenshotDir);
+                logger.info("Created screenshots directory: " + Config.SCREENSHOT_PATH);
+            }
+            screenshotDirectoryCreated = true;
         }
     }
     
@@ -51,7 +117,7 @@ public class ScreenshotUtil {
         String fileName = className + "_" + testName + "_FAILED";
         
         logger.info("Taking screenshot for failed test: " + testName);
-        return takeScreenshot(driver, fileName);
+        return takeScreenshot(driver, fileName, true);
     }
     
     public static String takeScreenshotWithMessage(WebDriver driver, String message) {
@@ -60,6 +126,61 @@ public class ScreenshotUtil {
         return takeScreenshot(driver, fileName);
     }
     
+    public static void logReport() {
+        logger.info("=== SCREENSHOT REPORT ===");
+        logger.info("Captured: " + capturedCount.get());
+        logger.info("Suppressed as duplicates: " + duplicateCount.get() + " (" + (bytesSaved.get() / 1024)
+            + " KB not written, mode: " + Config.SCREENSHOT_DEDUP_MODE + ")");
+        logger.info("Suppressed by per-test budget: " + rateLimitedCount.get() + " (max " + Config.SCREENSHOT_MAX_PER_TEST
+            + " per test, min interval " + Config.SCREENSHOT_MIN_INTERVAL_MILLIS + " ms)");
+        logger.info("=== END SCREENSHOT REPORT ===");
+    }
+    
+    private static boolean tryAcquireBudget(String fileName) {
+        String testKey = currentTestKey();
+        TestBudget budget = budgetsByTest.computeIfAbsent(testKey, key -> new TestBudget());
+        synchronized (budget) {
+            long now = System.currentTimeMillis();
+            if (budget.count >= Config.SCREENSHOT_MAX_PER_TEST) {
+                rateLimitedCount.incrementAndGet();
+                logger.info("Skipping screenshot " + fileName + ": budget of " + Config.SCREENSHOT_MAX_PER_TEST
+                    + " reached for " + testKey);
+                return false;
+            }
+            if (budget.count > 0 && now - budget.lastCaptureMillis < Config.SCREENSHOT_MIN_INTERVAL_MILLIS) {
+                rateLimitedCount.incrementAndGet();
+                logger.info("Skipping screenshot " + fileName + ": previous capture for " + testKey + " was "
+                    + (now - budget.lastCaptureMillis) + " ms ago");
+                return false;
+            }
+            budget.count++;
+            budget.lastCaptureMillis = now;
+            return true;
+        }
+    }
+    
+    // Drops the capture budget of a finished test or configuration method
+    public static void endTest(ITestResult result) {
+        budgetsByTest.remove(testKey(result));
+    }
+    
+    private static String currentTestKey() {
+        ITestResult result = Reporter.getCurrentTestResult();
+        if (result == null) {
+            return Thread.currentThread().getName();
+        }
+        return testKey(result);
+    }
+    
+    private static String testKey(ITestResult result) {
+        return result.getTestClass().getName() + "." + result.getMethod().getMethodName()
+            + "#" + System.identityHashCode(result);
+    }
+    
+    private static String sha256(byte[] bytes) throws NoSuchAlgorithmException {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+    }
+    
     public static void cleanOldScreenshots(int days) {
         try {
             File screenshotDir = new File(Config.SCREENSHOT_PATH);
@@ -83,11 +204,16 @@ public class ScreenshotUtil {
                 }
             }
             
+            capturesByHash.clear();
             logger.info("Cleaned " + deletedCount + " old screenshots");
             
         } catch (Exception e) {
             logger.error("Error cleaning old screenshots: " + e.getMessage());
         }
     }
+    
+    private static class TestBudget {
+        private int count;
+        private long lastCaptureMillis;
+    }
 }
-
@@ -0,0 +1,125 @@
+package automation.com.utils;
+
+import automation.com.config.Config;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+public class ScreenshotWriter {
+
+    private static final Logger logger = LogManager.getLogger(ScreenshotWriter.class);
+    private static final BlockingQueue<WriteTask> queue = new ArrayBlockingQueue<>(Config.SCREENSHOT_QUEUE_CAPACITY);
+    private static final Object flushLock = new Object();
+    private static int pendingWrites = 0;
+
+    static {
+        Thread writerThread = new Thread(ScreenshotWriter::drain, "screenshot-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> flush(Config.SCREENSHOT_FLUSH_TIMEOUT), "screenshot-flush"));
+    }
+
+    public static void submit(Path path, byte[] bytes) {
+        enqueue(new WriteTask(path, bytes, null));
+    }
+
+    public static void submitLink(Path path, Path existingPath) {
+        enqueue(new WriteTask(path, null, existingPath));
+    }
+
+    private static void enqueue(WriteTask task) {
+        Path path = task.path;
+        synchronized (flushLock) {
+            pendingWrites++;
+        }
+        try {
+            if (!queue.offer(task)) {
+                logger.warn("Screenshot queue is full, waiting for the writer to catch up");
+                queue.put(task);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            completeWrite();
+            logger.error("Interrupted while queueing screenshot: " + path);
+        }
+    }
+
+    public static boolean flush(int timeoutSeconds) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        synchronized (flushLock) {
+            while (pendingWrites > 0) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    logger.warn("Timed out flushing screenshots, " + pendingWrites + " write(s) still pending");
+                    return false;
+                }
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(flushLock, remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static void drain() {
+        while (true) {
+            WriteTask task;
+            try {
+                task = queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+
+            try {
+                if (task.linkTarget != null) {
+                    writeLink(task.path, task.linkTarget);
+                } else {
+                    Files.write(task.path, task.bytes);
+                    logger.info("Screenshot saved successfully: " + task.path);
+                }
+            } catch (IOException e) {
+                logger.error("Error writing screenshot " + task.path + ": " + e.getMessage());
+            } finally {
+                completeWrite();
+            }
+        }
+    }
+
+    private static void writeLink(Path path, Path linkTarget) throws IOException {
+        try {
+            Files.createLink(path, linkTarget);
+            logger.info("Screenshot " + path + " hard-linked to identical capture " + linkTarget);
+        } catch (UnsupportedOperationException | IOException e) {
+            logger.debug("Hard link not possible (" + e.getMessage() + "), copying " + linkTarget);
+            Files.copy(linkTarget, path);
+        }
+    }
+
+    private static void completeWrite() {
+        synchronized (flushLock) {
+            pendingWrites--;
+            flushLock.notifyAll();
+        }
+    }
+
+    private static class WriteTask {
+        private final Path path;
+        private final byte[] bytes;
+        private final Path linkTarget;
+
+        private WriteTask(Path path, byte[] bytes, Path linkTarget) {
+            this.path = path;
+            this.bytes = bytes;
+            this.linkTarget = linkTarget;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package automation.com.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.DevTools;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Cookies and localStorage of one origin, captured after a setup flow and replayed into fresh sessions
+public record SessionState(String origin, List<Cookie> cookies, Map<String, String> localStorage) {
+
+    private static final Logger logger = LogManager.getLogger(SessionState.class);
+    private static final String READ_LOCAL_STORAGE_SCRIPT =
+        "var items = {};" +
+        "for (var i = 0; i < window.localStorage.length; i++) {" +
+        "  var key = window.localStorage.key(i);" +
+        "  items[key] = window.localStorage.getItem(key);" +
+        "}" +
+        "return items;";
+    private static final String WRITE_LOCAL_STORAGE_SCRIPT =
+        "var items = arguments[0];" +
+        "for (var key in items) { window.localStorage.setItem(key, items[key]); }";
+    // Cheap same-origin document to attach localStorage to before the real navigation
+    private static final String ORIGIN_LANDING_PATH = "/robots.txt";
+
+    public SessionState {
+        cookies = List.copyOf(cookies);
+        localStorage = Map.copyOf(localStorage);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static SessionState capture(WebDriver driver) {
+        try {
+            URI current = URI.create(driver.getCurrentUrl());
+            String origin = current.getScheme() + "://" + current.getAuthority();
+            Map<String, String> storage = new HashMap<>();
+            Object items = ((JavascriptExecutor) driver).executeScript(READ_LOCAL_STORAGE_SCRIPT);
+            if (items instanceof Map) {
+                ((Map<String, Object>) items).forEach((key, value) -> storage.put(key, String.valueOf(value)));
+            }
+            SessionState state = new SessionState(origin, List.copyOf(driver.manage().getCookies()), storage);
+            logger.info("Captured session state for " + origin + ": " + state.cookies.size() + " cookie(s), "
+                + state.localStorage.size() + " localStorage item(s)");
+            return state;
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to capture session state", e);
+        }
+    }
+
+    // Chrome receives the cookies through CDP before any navigation; other browsers and localStorage need
+    // a same-origin document first, so those pay one extra lightweight navigation
+    public void restore(WebDriver driver, String url) {
+        try {
+            DevTools devTools = DevToolsSupport.open(driver);
+            boolean cookiesRestored = devTools != null && restoreCookies(devTools);
+            if (!cookiesRestored || !localStorage.isEmpty()) {
+                driver.get(origin + ORIGIN_LANDING_PATH);
+                if (!cookiesRestored) {
+                    for (Cookie cookie : cookies) {
+                        driver.manage().addCookie(cookie);
+                    }
+                }
+                if (!localStorage.isEmpty()) {
+                    ((JavascriptExecutor) driver).executeScript(WRITE_LOCAL_STORAGE_SCRIPT, localStorage);
+                }
+            }
+            logger.info("Restored session state for " + origin + " (" + cookies.size() + " cookie(s), "
+                + localStorage.size() + " localStorage item(s))");
+            driver.get(url);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to restore session state into " + url, e);
+        }
+    }
+
+    private boolean restoreCookies(DevTools devTools) {
+        try {
+            for (Cookie cookie : cookies) {
+                Map<String, Object> params = new HashMap<>();
+                params.put("name", cookie.getName());
+                params.put("value", cookie.getValue());
+                params.put("domain", cookie.getDomain());
+                params.put("path", cookie.getPath());
+                params.put("secure", cookie.isSecure());
+                params.put("httpOnly", cookie.isHttpOnly());
+                if (cookie.getExpiry() != null) {
+                    params.put("expires", cookie.getExpiry().getTime() / 1000.0);
+                }
+                if (cookie.getSameSite() != null) {
+                    params.put("sameSite", cookie.getSameSite());
+                }
+                DevToolsSupport.send(devTools, "Network.setCookie", params);
+            }
+            return true;
+        } catch (Exception e) {
+            logger.debug("Could not restore cookies through DevTools: " + e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package automation.com.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class StartupStats {
+
+    private static final Logger logger = LogManager.getLogger(StartupStats.class);
+
+    private static final AtomicLong warmLeases = new AtomicLong();
+    private static final AtomicLong warmLeaseNanos = new AtomicLong();
+    private static final AtomicLong coldLeases = new AtomicLong();
+    private static final AtomicLong coldLeaseNanos = new AtomicLong();
+    private static final AtomicLong warmUps = new AtomicLong();
+    private static final AtomicLong warmUpNanos = new AtomicLong();
+    private static final AtomicLong binaryResolutions = new AtomicLong();
+    private static final AtomicLong binaryResolutionNanos = new AtomicLong();
+
+    public static void recordWarmLease(long nanos) {
+        warmLeases.incrementAndGet();
+        warmLeaseNanos.addAndGet(nanos);
+    }
+
+    public static void recordColdLease(long nanos) {
+        coldLeases.incrementAndGet();
+        coldLeaseNanos.addAndGet(nanos);
+    }
+
+    public static void recordWarmUp(long nanos) {
+        warmUps.incrementAndGet();
+        warmUpNanos.addAndGet(nanos);
+    }
+
+    public static void recordBinaryResolution(long nanos) {
+        binaryResolutions.incrementAndGet();
+        binaryResolutionNanos.addAndGet(nanos);
+    }
+
+    public static void logReport() {
+        long coldAverage = averageMillis(coldLeaseNanos, coldLeases);
+        long warmAverage = averageMillis(warmLeaseNanos, warmLeases);
+
+        logger.info("=== BROWSER STARTUP REPORT ===");
+        logger.info("Driver binary resolutions: " + binaryResolutions.get()
+            + " (total " + TimeUnit.NANOSECONDS.toMillis(binaryResolutionNanos.get()) + " ms)");
+        logger.info("Background warm-ups: " + warmUps.get() + " (avg " + averageMillis(warmUpNanos, warmUps) + " ms)");
+        logger.info("Cold leases: " + coldLeases.get() + " (avg " + coldAverage + " ms)");
+        logger.info("Warm leases: " + warmLeases.get() + " (avg " + warmAverage + " ms)");
+        if (warmLeases.get() > 0 && coldLeases.get() > 0) {
+            logger.info("Estimated startup time saved by warm leases: "
+                + (warmLeases.get() * (coldAverage - warmAverage)) + " ms");
+        }
+        logger.info("=== END BROWSER STARTUP REPORT ===");
+    }
+
+    private static long averageMillis(AtomicLong totalNanos, AtomicLong count) {
+        long samples = count.get();
+        return samples == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalNanos.get() / samples);
+    }
+}
@@ -0,0 +1,58 @@
+package automation.com.utils;
+
+import automation.com.config.Config;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestResult;
+
+public class SuiteListener implements ISuiteListener, IInvokedMethodListener {
+
+    private static final Logger logger = LogManager.getLogger(SuiteListener.class);
+
+    @Override
+    public void onStart(ISuite suite) {
+        LogStats.install();
+        if (Config.FIXTURES_ENABLED) {
+            FixtureServer.start();
+        }
+
+        String browser = suite.getParameter("browser");
+        if (browser == null || browser.isEmpty()) {
+            browser = Config.DEFAULT_BROWSER;
+        }
+        String profile = BrowserProfile.resolveName(suite.getParameter("profile"));
+
+        if (Config.DRIVER_POOL_WARM_UP > 0) {
+            logger.info("Pre-warming " + Config.DRIVER_POOL_WARM_UP + " " + browser + " session(s) with profile "
+                + profile + " in the background");
+            BrowserManager.warmUpAsync(browser, profile, Config.DRIVER_POOL_WARM_UP);
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        ScreenshotUtil.endTest(testResult);
+    }
+    
+    @Override
+    public void onFinish(ISuite suite) {
+        ScreenshotUtil.flush();
+        ScreenshotUtil.logReport();
+        StartupStats.logReport();
+        WaitStats.logReport();
+        CommandStats.logReport();
+        LocatorCache.logReport();
+        LocatorCache.save();
+        NetworkBlocker.logReport();
+        TrafficArchive.logReport();
+        TrafficArchive.save();
+        TraceRecorder.save();
+        LogStats.logReport();
+        DriverPool.shutdown();
+        FixtureServer.stop();
+    }
+}
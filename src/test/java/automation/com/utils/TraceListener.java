@@ -0,0 +1,45 @@
+package automation.com.utils;
+
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+
+import java.util.Arrays;
+
+// One trace span per TestNG test and configuration method
+public class TraceListener implements IInvokedMethodListener {
+
+    private static final String START_ATTRIBUTE = "trace.startNanos";
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        testResult.setAttribute(START_ATTRIBUTE, TraceRecorder.begin());
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        Object startNanos = testResult.getAttribute(START_ATTRIBUTE);
+        if (startNanos == null) {
+            return;
+        }
+        String category = method.isTestMethod() ? "test" : "configuration";
+        String name = testResult.getTestClass().getRealClass().getSimpleName() + "." + method.getTestMethod().getMethodName();
+        if (testResult.getParameters().length > 0) {
+            name += Arrays.toString(testResult.getParameters());
+        }
+        TraceRecorder.end(category, name, (Long) startNanos, statusName(testResult.getStatus()));
+    }
+
+    private static String statusName(int status) {
+        switch (status) {
+            case ITestResult.SUCCESS:
+                return "SUCCESS";
+            case ITestResult.FAILURE:
+                return "FAILURE";
+            case ITestResult.SKIP:
+                return "SKIP";
+            default:
+                return "STATUS_" + status;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package automation.com.utils;
+
+import automation.com.config.Config;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Collects complete-duration spans and writes them as Chrome trace-event JSON (Perfetto / chrome://tracing),
+// one track per worker thread
+public class TraceRecorder {
+
+    private static final Logger logger = LogManager.getLogger(TraceRecorder.class);
+    private static final long ORIGIN_NANOS = System.nanoTime();
+    private static final int PROCESS_ID = 1;
+    private static final Queue<Span> spans = new ConcurrentLinkedQueue<>();
+    private static final Map<Long, String> threadNames = new ConcurrentHashMap<>();
+    private static final AtomicInteger spanCount = new AtomicInteger();
+    private static final AtomicLong droppedSpans = new AtomicLong();
+
+    private record Span(String category, String name, long threadId, long startNanos, long durationNanos, String detail) {
+    }
+
+    public static long begin() {
+        return System.nanoTime();
+    }
+
+    public static void end(String category, Object name, long startNanos) {
+        end(category, name, startNanos, null);
+    }
+
+    public static void end(String category, Object name, long startNanos, Object detail) {
+        if (!Config.TRACE_ENABLED) {
+            return;
+        }
+        long endNanos = System.nanoTime();
+        if (spanCount.incrementAndGet() > Config.TRACE_MAX_SPANS) {
+            droppedSpans.incrementAndGet();
+            return;
+        }
+        Thread thread = Thread.currentThread();
+        threadNames.putIfAbsent(thread.threadId(), thread.getName());
+        spans.add(new Span(category, String.valueOf(name), thread.threadId(), startNanos, endNanos - startNanos,
+            detail != null ? String.valueOf(detail) : null));
+    }
+
+    public static void save() {
+        if (!Config.TRACE_ENABLED || spans.isEmpty()) {
+            return;
+        }
+        try {
+            Path directory = Paths.get(Config.TRACE_PATH);
+            Files.createDirectories(directory);
+            Path file = directory.resolve("trace_" + new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date()) + ".json");
+
+            List<Span> snapshot = new ArrayList<>(spans);
+            try (JsonGenerator generator = new JsonFactory().createGenerator(file.toFile(), JsonEncoding.UTF8)) {
+                generator.writeStartObject();
+                generator.writeStringField("displayTimeUnit", "ms");
+                generator.writeArrayFieldStart("traceEvents");
+                for (Map.Entry<Long, String> thread : threadNames.entrySet()) {
+                    generator.writeStartObject();
+                    generator.writeStringField("ph", "M");
+                    generator.writeStringField("name", "thread_name");
+                    generator.writeNumberField("pid", PROCESS_ID);
+                    generator.writeNumberField("tid", thread.getKey());
+                    generator.writeObjectFieldStart("args");
+                    generator.writeStringField("name", thread.getValue());
+                    generator.writeEndObject();
+                    generator.writeEndObject();
+                }
+                for (Span span : snapshot) {
+                    generator.writeStartObject();
+                    generator.writeStringField("ph", "X");
+                    generator.writeStringField("cat", span.category());
+                    generator.writeStringField("name", span.name());
+                    generator.writeNumberField("pid", PROCESS_ID);
+                    generator.writeNumberField("tid", span.threadId());
+                    generator.writeNumberField("ts", (span.startNanos() - ORIGIN_NANOS) / 1000.0);
+                    generator.writeNumberField("dur", span.durationNanos() / 1000.0);
+                    if (span.detail() != null) {
+                        generator.writeObjectFieldStart("args");
+                        generator.writeStringField("detail", span.detail());
+                        generator.writeEndObject();
+                    }
+                    generator.writeEndObject();
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+            logger.info("Wrote " + snapshot.size() + " trace span(s) on " + threadNames.size() + " thread(s) to " + file
+                + (droppedSpans.get() > 0 ? " (" + droppedSpans.get() + " dropped over trace.maxSpans)" : ""));
+        } catch (IOException e) {
+            logger.error("Error writing trace file: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package automation.com.utils;
+
+import automation.com.config.Config;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.DevTools;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Records every response the browser receives into an on-disk archive and serves them back in replay
+// mode, using CDP Fetch interception (Chrome only) instead of an external proxy.
+public class TrafficArchive {
+
+    private static final Logger logger = LogManager.getLogger(TrafficArchive.class);
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final String INDEX_FILE = "index.json";
+    private static final String BODIES_DIR = "bodies";
+    private static final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private static final AtomicLong recordedResponses = new AtomicLong();
+    private static final AtomicLong recordedBytes = new AtomicLong();
+    private static final AtomicLong replayedResponses = new AtomicLong();
+    private static final AtomicLong replayMisses = new AtomicLong();
+    private static volatile boolean loaded = false;
+
+    public record Entry(int status, List<Map<String, String>> headers, String bodyFile) {
+    }
+
+    public static boolean isEnabled() {
+        return isRecording() || isReplaying();
+    }
+
+    public static boolean isRecording() {
+        return "record".equalsIgnoreCase(Config.TRAFFIC_MODE);
+    }
+
+    public static boolean isReplaying() {
+        return "replay".equalsIgnoreCase(Config.TRAFFIC_MODE);
+    }
+
+    public static void attach(WebDriver driver) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        DevTools devTools = DevToolsSupport.open(driver);
+        if (devTools == null) {
+            logger.warn("Traffic " + Config.TRAFFIC_MODE + " mode needs a Chrome DevTools session, "
+                + driver.getClass().getSimpleName() + " will use the live network");
+            return;
+        }
+
+        String requestStage = isRecording() ? "Response" : "Request";
+        DevToolsSupport.on(devTools, "Fetch.requestPaused", event -> {
+            try {
+                if (isRecording()) {
+                    record(devTools, event);
+                } else {
+                    replay(devTools, event);
+                }
+            } catch (Exception e) {
+                logger.debug("Error handling intercepted request: " + e.getMessage());
+                continueRequest(devTools, event);
+            }
+        });
+        DevToolsSupport.send(devTools, "Fetch.enable",
+            Map.of("patterns", List.of(Map.of("urlPattern", "*", "requestStage", requestStage))));
+        logger.info("Traffic " + Config.TRAFFIC_MODE + " enabled for new driver, archive: " + Config.TRAFFIC_ARCHIVE_PATH);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void record(DevTools devTools, Map<String, Object> event) throws IOException {
+        Map<String, Object> request = (Map<String, Object>) event.get("request");
+        Object statusCode = event.get("responseStatusCode");
+        if (statusCode == null || event.get("responseErrorReason") != null) {
+            continueRequest(devTools, event);
+            return;
+        }
+
+        int status = ((Number) statusCode).intValue();
+        byte[] body = new byte[0];
+        if (status < 300 || status >= 400) {
+            Map<String, Object> response = DevToolsSupport.send(devTools, "Fetch.getResponseBody",
+                Map.of("requestId", event.get("requestId")));
+            String encodedBody = (String) response.get("body");
+            body = Boolean.TRUE.equals(response.get("base64Encoded"))
+                ? Base64.getDecoder().decode(encodedBody)
+                : encodedBody.getBytes(StandardCharsets.UTF_8);
+        }
+
+        String bodyFile = writeBody(body);
+        List<Map<String, String>> headers = new ArrayList<>();
+        Object responseHeaders = event.get("responseHeaders");
+        if (responseHeaders instanceof List) {
+            for (Map<String, Object> header : (List<Map<String, Object>>) responseHeaders) {
+                headers.add(Map.of("name", String.valueOf(header.get("name")), "value", String.valueOf(header.get("value"))));
+            }
+        }
+
+        entries.put(requestKey(request), new Entry(status, headers, bodyFile));
+        recordedResponses.incrementAndGet();
+        recordedBytes.addAndGet(body.length);
+        continueRequest(devTools, event);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void replay(DevTools devTools, Map<String, Object> event) throws IOException {
+        ensureLoaded();
+        Map<String, Object> request = (Map<String, Object>) event.get("request");
+        Entry entry = entries.get(requestKey(request));
+        if (entry == null) {
+            replayMisses.incrementAndGet();
+            logger.debug("No archived response for " + requestKey(request));
+            DevToolsSupport.send(devTools, "Fetch.failRequest",
+                Map.of("requestId", event.get("requestId"), "errorReason", "InternetDisconnected"));
+            return;
+        }
+
+        List<Map<String, String>> headers = new ArrayList<>();
+        for (Map<String, String> header : entry.headers()) {
+            String name = header.get("name").toLowerCase();
+            // Bodies are archived decoded, so the original encoding and length no longer apply
+            if (!name.equals("content-encoding") && !name.equals("content-length")) {
+                headers.add(header);
+            }
+        }
+        byte[] body = Files.readAllBytes(archivePath().resolve(BODIES_DIR).resolve(entry.bodyFile()));
+        DevToolsSupport.send(devTools, "Fetch.fulfillRequest", Map.of(
+            "requestId", event.get("requestId"),
+            "responseCode", entry.status(),
+            "responseHeaders", headers,
+            "body", Base64.getEncoder().encodeToString(body)));
+        replayedResponses.incrementAndGet();
+    }
+
+    private static void continueRequest(DevTools devTools, Map<String, Object> event) {
+        try {
+            DevToolsSupport.send(devTools, "Fetch.continueRequest", Map.of("requestId", event.get("requestId")));
+        } catch (Exception e) {
+            logger.debug("Error continuing intercepted request: " + e.getMessage());
+        }
+    }
+
+    private static String requestKey(Map<String, Object> request) {
+        String url = String.valueOf(request.get("url"));
+        int fragment = url.indexOf('#');
+        if (fragment >= 0) {
+            url = url.substring(0, fragment);
+        }
+        String key = request.get("method") + " " + url;
+        Object postData = request.get("postData");
+        return postData != null ? key + " " + sha256(String.valueOf(postData).getBytes(StandardCharsets.UTF_8)) : key;
+    }
+
+    private static String writeBody(byte[] body) throws IOException {
+        String bodyFile = sha256(body) + ".bin";
+        Path bodyPath = archivePath().resolve(BODIES_DIR).resolve(bodyFile);
+        if (!Files.exists(bodyPath)) {
+            Files.createDirectories(bodyPath.getParent());
+            Files.write(bodyPath, body);
+        }
+        return bodyFile;
+    }
+
+    private static synchronized void ensureLoaded() throws IOException {
+        if (loaded) {
+            return;
+        }
+        Path index = archivePath().resolve(INDEX_FILE);
+        if (Files.exists(index)) {
+            entries.putAll(mapper.readValue(index.toFile(), new TypeReference<Map<String, Entry>>() { }));
+            logger.info("Loaded " + entries.size() + " archived responses from " + index);
+        } else {
+            logger.warn("No traffic archive found at " + index + ", run once with -Dtraffic.mode=record");
+        }
+        loaded = true;
+    }
+
+    public static void save() {
+        if (!isRecording() || entries.isEmpty()) {
+            return;
+        }
+        try {
+            Files.createDirectories(archivePath());
+            mapper.writerWithDefaultPrettyPrinter().writeValue(archivePath().resolve(INDEX_FILE).toFile(), entries);
+            logger.info("Saved " + entries.size() + " archived responses to " + archivePath());
+        } catch (IOException e) {
+            logger.error("Error saving traffic archive: " + e.getMessage());
+        }
+    }
+
+    public static void logReport() {
+        if (!isEnabled()) {
+            return;
+        }
+        logger.info("=== TRAFFIC ARCHIVE REPORT ===");
+        logger.info("Mode: " + Config.TRAFFIC_MODE);
+        if (isRecording()) {
+            logger.info("Recorded responses: " + recordedResponses.get() + " (" + (recordedBytes.get() / 1024) + " KB), "
+                + entries.size() + " unique request(s)");
+        } else {
+            logger.info("Replayed responses: " + replayedResponses.get() + ", not in archive (failed): " + replayMisses.get());
+        }
+        logger.info("=== END TRAFFIC ARCHIVE REPORT ===");
+    }
+
+    private static Path archivePath() {
+        return Paths.get(Config.TRAFFIC_ARCHIVE_PATH);
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("SHA-256 not available", e);
+        }
+    }
+}
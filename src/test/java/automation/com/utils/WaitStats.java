@@ -0,0 +1,68 @@
+package automation.com.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class WaitStats {
+
+    private static final Logger logger = LogManager.getLogger(WaitStats.class);
+    private static final int REPORT_LIMIT = 25;
+    private static final Map<Object, Entry> entries = new ConcurrentHashMap<>();
+
+    public static void record(Object waitKey, long nanos, boolean satisfied) {
+        Entry entry = entries.computeIfAbsent(waitKey, key -> new Entry());
+        entry.waits.incrementAndGet();
+        entry.totalNanos.addAndGet(nanos);
+        entry.maxNanos.accumulateAndGet(nanos, Math::max);
+        if (!satisfied) {
+            entry.timeouts.incrementAndGet();
+            entry.timeoutNanos.addAndGet(nanos);
+        }
+    }
+
+    public static void logReport() {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<Object, Entry>> sorted = new ArrayList<>(entries.entrySet());
+        sorted.sort(Comparator.comparingLong((Map.Entry<Object, Entry> e) -> e.getValue().totalNanos.get()).reversed());
+
+        long totalNanos = 0;
+        long timeoutNanos = 0;
+        for (Map.Entry<Object, Entry> e : sorted) {
+            totalNanos += e.getValue().totalNanos.get();
+            timeoutNanos += e.getValue().timeoutNanos.get();
+        }
+
+        logger.info("=== WAIT TIME REPORT ===");
+        logger.info("Total time waiting: " + TimeUnit.NANOSECONDS.toMillis(totalNanos) + " ms, of which "
+            + TimeUnit.NANOSECONDS.toMillis(timeoutNanos) + " ms ended in a timeout");
+        for (int i = 0; i < Math.min(REPORT_LIMIT, sorted.size()); i++) {
+            Map.Entry<Object, Entry> e = sorted.get(i);
+            Entry entry = e.getValue();
+            logger.info("  " + TimeUnit.NANOSECONDS.toMillis(entry.totalNanos.get()) + " ms total"
+                + " | waits: " + entry.waits.get()
+                + " | timeouts: " + entry.timeouts.get()
+                + " | max: " + TimeUnit.NANOSECONDS.toMillis(entry.maxNanos.get()) + " ms"
+                + " | " + e.getKey());
+        }
+        logger.info("=== END WAIT TIME REPORT ===");
+    }
+
+    private static class Entry {
+        private final AtomicLong waits = new AtomicLong();
+        private final AtomicLong timeouts = new AtomicLong();
+        private final AtomicLong totalNanos = new AtomicLong();
+        private final AtomicLong timeoutNanos = new AtomicLong();
+        private final AtomicLong maxNanos = new AtomicLong();
+    }
+}
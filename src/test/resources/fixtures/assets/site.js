@@ -0,0 +1,25 @@
+// Cookie consent banner and Company menu behaviour of the live site, without third-party scripts
+(function () {
+    function hasConsent() {
+        return document.cookie.split('; ').indexOf('viewed_cookie_policy=yes') >= 0;
+    }
+
+    var banner = document.getElementById('cookie-law-info-bar');
+    if (banner) {
+        if (hasConsent()) {
+            banner.classList.add('is-hidden');
+        }
+        document.getElementById('wt-cli-accept-all-btn').addEventListener('click', function (event) {
+            event.preventDefault();
+            document.cookie = 'viewed_cookie_policy=yes; path=/; max-age=31536000';
+            document.cookie = 'cookielawinfo-checkbox-necessary=yes; path=/; max-age=31536000';
+            banner.classList.add('is-hidden');
+        });
+    }
+
+    var dropdowns = document.querySelectorAll('.nav-item.dropdown');
+    Array.prototype.forEach.call(dropdowns, function (dropdown) {
+        dropdown.addEventListener('mouseover', function () { dropdown.classList.add('show'); });
+        dropdown.addEventListener('mouseleave', function () { dropdown.classList.remove('show'); });
+    });
+})();